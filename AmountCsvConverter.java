@@ -0,0 +1,402 @@
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Streams a CSV file with an amount column and writes it back out with two columns appended:
+ * the amount in words ({@link TkInWord#convertToTkInWordByLocale(java.math.BigDecimal, boolean)})
+ * and the comma separated Bangla Tk ({@link TkInWord#formatToCommaSeparatedBanglaTk(java.math.BigDecimal)}).
+ * <p>
+ * The input is read through memory-mapped windows and cut into line-aligned blocks. Amounts are parsed
+ * straight from the bytes by {@link CommaSeparatedParser}, so they may be plain or comma separated in either
+ * digit script; amounts it does not take, such as ones with more than two decimals, are read as a plain
+ * {@link BigDecimal} of at most 40 whole digits and 20 decimals, without an exponent. The output is UTF-8 encoded into a reused buffer per block, so memory stays
+ * bounded by the block size no matter how large the file is. Quoted fields (RFC 4180) are honoured.
+ * <p>
+ * A row whose amount cannot be parsed gets two empty columns. A negative amount is not put into words; its
+ * words column holds the amount as written in the input, which is what {@link TkInWord} returns for a
+ * negative {@link BigDecimal} unless the input has commas or Bangla digits.
+ */
+public class AmountCsvConverter {
+    private static final long MAP_WINDOW_SIZE = 64L << 20;
+    private static final int BLOCK_SIZE = 1 << 20;
+    private static final int IN_FLIGHT_BLOCKS_PER_THREAD = 2;
+    // A sign, the digits parsePlainDecimal takes and a point; longer cells cannot be a plain amount
+    private static final int MAX_PLAIN_AMOUNT_LENGTH = CommaSeparatedParser.MAX_PLAIN_INTEGER_DIGITS + CommaSeparatedParser.MAX_PLAIN_FRACTION_DIGITS + 2;
+
+    private static final byte[] HEADER_COLUMNS = ",\"AmountInWords\",\"CommaSeparatedAmount\"".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Converts {@code input} into {@code output} on the calling thread.
+     *
+     * @param amountColumn Zero-based index of the amount column
+     * @param isBangla     True for Bangla words; false for English
+     * @param hasHeader    True if the first line is a header row
+     * @return The number of data rows written
+     */
+    public static long convert(Path input, Path output, int amountColumn, boolean isBangla, boolean hasHeader) throws IOException {
+        return convert(input, output, amountColumn, isBangla, hasHeader, 1);
+    }
+
+    /**
+     * Converts {@code input} into {@code output}, converting blocks on {@code threads} worker threads
+     * while the calling thread reads ahead and writes finished blocks in input order.
+     * At most {@code 2 * threads} blocks are held in memory at once.
+     *
+     * @param amountColumn Zero-based index of the amount column
+     * @param isBangla     True for Bangla words; false for English
+     * @param hasHeader    True if the first line is a header row
+     * @param threads      Number of worker threads; 1 converts on the calling thread
+     * @return The number of data rows written
+     */
+    public static long convert(Path input, Path output, int amountColumn, boolean isBangla, boolean hasHeader, int threads) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            BlockReader reader = new BlockReader(in);
+            return threads > 1
+                    ? convertParallel(reader, out, amountColumn, isBangla, hasHeader, threads)
+                    : convertSequential(reader, out, amountColumn, isBangla, hasHeader);
+        }
+    }
+
+    private static long convertSequential(BlockReader reader, FileChannel out, int amountColumn, boolean isBangla, boolean hasHeader) throws IOException {
+        BlockConverter converter = new BlockConverter(amountColumn, isBangla);
+        long rows = 0;
+        boolean firstLineIsHeader = hasHeader;
+
+        for (ByteBuffer block = reader.next(); block != null; block = reader.next()) {
+            rows += converter.convert(block, firstLineIsHeader);
+            writeFully(out, converter.output());
+            firstLineIsHeader = false;
+        }
+        return rows;
+    }
+
+    private static long convertParallel(BlockReader reader, FileChannel out, int amountColumn, boolean isBangla, boolean hasHeader, int threads) throws IOException {
+        int maxInFlight = threads * IN_FLIGHT_BLOCKS_PER_THREAD;
+        Deque<BlockConverter> idleConverters = new ArrayDeque<>(maxInFlight);
+        for (int i = 0; i < maxInFlight; i++) {
+            idleConverters.add(new BlockConverter(amountColumn, isBangla));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Deque<Future<BlockConverter>> inFlight = new ArrayDeque<>(maxInFlight);
+        long rows = 0;
+        boolean firstLineIsHeader = hasHeader;
+
+        try {
+            for (ByteBuffer block = reader.next(); block != null; block = reader.next()) {
+                if (idleConverters.isEmpty()) {
+                    rows += writeConverted(out, inFlight.removeFirst(), idleConverters);
+                }
+
+                BlockConverter converter = idleConverters.removeFirst();
+                ByteBuffer pendingBlock = block;
+                boolean isHeaderBlock = firstLineIsHeader;
+                inFlight.addLast(executor.submit(() -> {
+                    converter.convert(pendingBlock, isHeaderBlock);
+                    return converter;
+                }));
+                firstLineIsHeader = false;
+            }
+
+            while (!inFlight.isEmpty()) {
+                rows += writeConverted(out, inFlight.removeFirst(), idleConverters);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return rows;
+    }
+
+    private static long writeConverted(FileChannel out, Future<BlockConverter> pending, Deque<BlockConverter> idleConverters) throws IOException {
+        BlockConverter converter;
+        try {
+            converter = pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while converting CSV blocks", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to convert CSV block", e.getCause());
+        }
+
+        writeFully(out, converter.output());
+        idleConverters.addLast(converter);
+        return converter.rows();
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * Hands out line-aligned blocks of roughly {@link #BLOCK_SIZE} bytes from memory-mapped windows of the input.
+     * A block never ends inside a quoted field, so every block starts on a fresh record.
+     */
+    private static final class BlockReader {
+        private final FileChannel channel;
+        private final long size;
+        private MappedByteBuffer window;
+        private long windowStart;
+
+        BlockReader(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+        }
+
+        ByteBuffer next() throws IOException {
+            long position = window == null ? 0 : windowStart + window.position();
+            if (position >= size) {
+                return null;
+            }
+            if (window == null || !window.hasRemaining()) {
+                map(position);
+            }
+
+            int blockEnd = findBlockEnd(window, window.position());
+            if (blockEnd < 0 && window.position() > 0) {
+                // The window ends inside a record; remap starting at that record
+                map(position);
+                blockEnd = findBlockEnd(window, 0);
+            }
+            if (blockEnd < 0) {
+                throw new IOException("CSV record at offset " + position + " is longer than " + MAP_WINDOW_SIZE + " bytes");
+            }
+
+            ByteBuffer block = window.slice(window.position(), blockEnd - window.position());
+            window.position(blockEnd);
+            return block;
+        }
+
+        private void map(long position) throws IOException {
+            windowStart = position;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_WINDOW_SIZE, size - position));
+        }
+
+        /**
+         * @return The index just past the first record end at least one block size after {@code start},
+         * else the end of the window if it is the end of the file, else the last record end in the window,
+         * or -1 if no record ends in the window
+         */
+        private int findBlockEnd(ByteBuffer buffer, int start) {
+            int target = start + BLOCK_SIZE;
+            int lastRecordEnd = -1;
+            boolean inQuotes = false;
+
+            for (int i = start; i < buffer.limit(); i++) {
+                byte b = buffer.get(i);
+                if (b == '"') {
+                    inQuotes = !inQuotes;
+                } else if (b == '\n' && !inQuotes) {
+                    lastRecordEnd = i + 1;
+                    if (lastRecordEnd >= target) {
+                        break;
+                    }
+                }
+            }
+
+            if (lastRecordEnd < target && windowStart + buffer.limit() >= size) {
+                return buffer.limit();
+            }
+            return lastRecordEnd;
+        }
+    }
+
+    /**
+     * Converts one block of records into UTF-8 output. Owns its scratch and output buffers, which are
+     * reused from block to block.
+     */
+    private static final class BlockConverter {
+        private final int amountColumn;
+        private final boolean isBangla;
+        private final StringBuilder scratch = new StringBuilder(128);
+        private ByteBuffer output = ByteBuffer.allocate(BLOCK_SIZE * 2);
+        private long rows;
+
+        // Set by findAmount: where the text of the amount column starts and ends in the block
+        private int amountStart;
+        private int amountEnd;
+
+        BlockConverter(int amountColumn, boolean isBangla) {
+            this.amountColumn = amountColumn;
+            this.isBangla = isBangla;
+        }
+
+        long convert(ByteBuffer block, boolean firstLineIsHeader) {
+            output.clear();
+            rows = 0;
+
+            int lineStart = 0;
+            boolean inQuotes = false;
+            boolean isHeader = firstLineIsHeader;
+            for (int i = 0; i < block.limit(); i++) {
+                byte b = block.get(i);
+                if (b == '"') {
+                    inQuotes = !inQuotes;
+                } else if (b == '\n' && !inQuotes) {
+                    convertLine(block, lineStart, i + 1, isHeader);
+                    isHeader = false;
+                    lineStart = i + 1;
+                }
+            }
+            if (lineStart < block.limit()) {
+                convertLine(block, lineStart, block.limit(), isHeader);
+            }
+
+            output.flip();
+            return rows;
+        }
+
+        ByteBuffer output() {
+            return output;
+        }
+
+        long rows() {
+            return rows;
+        }
+
+        private void convertLine(ByteBuffer block, int start, int end, boolean isHeader) {
+            int contentEnd = end;
+            if (contentEnd > start && block.get(contentEnd - 1) == '\n') {
+                contentEnd--;
+            }
+            if (contentEnd > start && block.get(contentEnd - 1) == '\r') {
+                contentEnd--;
+            }
+
+            ensureCapacity(end - start + HEADER_COLUMNS.length);
+            putBytes(block, start, contentEnd);
+
+            if (isHeader) {
+                output.put(HEADER_COLUMNS);
+            } else {
+                appendAmountColumns(block, start, contentEnd);
+                rows++;
+            }
+            putBytes(block, contentEnd, end);
+        }
+
+        private void putBytes(ByteBuffer block, int start, int end) {
+            output.put(output.position(), block, start, end - start);
+            output.position(output.position() + end - start);
+        }
+
+        private void appendAmountColumns(ByteBuffer block, int start, int end) {
+            scratch.setLength(0);
+            if (!findAmount(block, start, end)) {
+                scratch.append(",,");
+                putUtf8(scratch);
+                return;
+            }
+
+            long paisa = CommaSeparatedParser.parsePaisa(block, amountStart, amountEnd);
+            if (paisa == CommaSeparatedParser.INVALID) {
+                appendBigDecimalColumns(block);
+                return;
+            }
+
+            scratch.append(",\"");
+            if (paisa < 0) {
+                // Negative amounts are not put into words; like TkInWord, keep the amount as it was written
+                putUtf8(scratch);
+                putBytes(block, amountStart, amountEnd);
+                scratch.setLength(0);
+            } else {
+                TkInWord.appendTkInWordByLocale(scratch, paisa, isBangla);
+            }
+            scratch.append("\",\"");
+            CommaSeparatedFormatter.appendPaisa(scratch, paisa, true);
+            scratch.append('"');
+            putUtf8(scratch);
+        }
+
+        /**
+         * Converts an amount that {@link CommaSeparatedParser} rejects as a plain decimal, so amounts with more
+         * than two decimals or beyond the long range of paisa come out as {@link TkInWord} converts them. The
+         * decimal is capped in size and may not have an exponent; a single cell such as "1E20000000" would
+         * otherwise exhaust the heap or take seconds to convert.
+         */
+        private void appendBigDecimalColumns(ByteBuffer block) {
+            BigDecimal amount = null;
+            if (amountEnd - amountStart <= MAX_PLAIN_AMOUNT_LENGTH) {
+                byte[] text = new byte[amountEnd - amountStart];
+                block.get(amountStart, text);
+                amount = CommaSeparatedParser.parsePlainDecimal(new String(text, StandardCharsets.UTF_8).trim());
+            }
+            if (amount == null) {
+                scratch.append(",,");
+                putUtf8(scratch);
+                return;
+            }
+
+            scratch.append(",\"");
+            TkInWord.appendTkInWordByLocale(scratch, amount, isBangla);
+            scratch.append("\",\"").append(TkInWord.formatToCommaSeparatedBanglaTk(amount)).append('"');
+            putUtf8(scratch);
+        }
+
+        /**
+         * Finds the amount column of a record and sets {@link #amountStart} and {@link #amountEnd} to its
+         * text, without surrounding spaces and quotes.
+         *
+         * @return False if the record has no such column
+         */
+        private boolean findAmount(ByteBuffer block, int start, int end) {
+            int column = 0;
+            int fieldStart = start;
+            boolean inQuotes = false;
+            for (int i = start; i <= end; i++) {
+                byte b = i < end ? block.get(i) : (byte) ',';
+                if (b == '"') {
+                    inQuotes = !inQuotes;
+                } else if (b == ',' && !inQuotes) {
+                    if (column == amountColumn) {
+                        trimAmount(block, fieldStart, i);
+                        return true;
+                    }
+                    column++;
+                    fieldStart = i + 1;
+                }
+            }
+            return false;
+        }
+
+        private void trimAmount(ByteBuffer block, int start, int end) {
+            while (start < end && (block.get(start) == ' ' || block.get(start) == '"')) {
+                start++;
+            }
+            while (end > start && (block.get(end - 1) == ' ' || block.get(end - 1) == '"')) {
+                end--;
+            }
+            amountStart = start;
+            amountEnd = end;
+        }
+
+        private void putUtf8(CharSequence text) {
+            ensureCapacity(text.length() * 3);
+            Utf8.put(output, text);
+        }
+
+        private void ensureCapacity(int bytes) {
+            if (output.remaining() < bytes) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(output.capacity() * 2, output.position() + bytes));
+                output.flip();
+                larger.put(output);
+                output = larger;
+            }
+        }
+    }
+}
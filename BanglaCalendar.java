@@ -0,0 +1,287 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts Gregorian dates to the Bengali calendar (Bangabda) as revised in Bangladesh in 2019, and writes
+ * them as e.g. "১ বৈশাখ ১৪৩১ বঙ্গাব্দ" or "1 Boishakh 1431 Bangabda".
+ * <p>
+ * The year starts on 14 April. Boishakh to Ashwin have 31 days, Kartik to Magh and Choitro 30, and Falgun 29,
+ * or 30 when it holds a Gregorian 29 February. The same rules are applied to dates before the revision.
+ * <p>
+ * The Gregorian leap years repeat every 400 years, so the first day of each Bangla year within one 400-year
+ * cycle and the month of each day of the year are kept in tables; a conversion is a division and a few
+ * array lookups.
+ */
+public class BanglaCalendar {
+    /**
+     * Longest output of {@link #renderDate}.
+     */
+    public static final int MAX_DATE_LENGTH = 48;
+
+    private static final String[] BANGLA_MONTH_NAMES = {
+            "বৈশাখ", "জ্যৈষ্ঠ", "আষাঢ়", "শ্রাবণ", "ভাদ্র", "আশ্বিন", "কার্তিক", "অগ্রহায়ণ", "পৌষ", "মাঘ", "ফাল্গুন", "চৈত্র"
+    };
+    private static final String[] ENGLISH_MONTH_NAMES = {
+            "Boishakh", "Joishtho", "Asharh", "Shrabon", "Bhadro", "Ashwin", "Kartik", "Ogrohayon", "Poush", "Magh", "Falgun", "Choitro"
+    };
+    private static final String BANGLA_ERA_TEXT = "বঙ্গাব্দ";
+    private static final String ENGLISH_ERA_TEXT = "Bangabda";
+
+    private static final int[] MONTH_LENGTHS = {31, 31, 31, 31, 31, 31, 30, 30, 30, 30, 29, 30};
+    private static final int FALGUN = 10;
+    private static final int YEARS_PER_CYCLE = 400;
+    private static final int DAYS_PER_CYCLE = 146_097;
+    // The Bangla year starting in Gregorian year g is g - 593
+    private static final int GREGORIAN_YEAR_OFFSET = 593;
+    private static final long CYCLE_START_EPOCH_DAY = LocalDate.of(0, 4, 14).toEpochDay();
+
+    // The day of the cycle on which the year starting in Gregorian year i of the cycle begins; entry 400 ends the cycle
+    private static final int[] YEAR_START = createYearStarts();
+    // Indexed by 0 for a 365-day year and 1 for a 366-day year, then by day of the year or month
+    private static final byte[][] MONTH_OF_DAY = {createMonthOfDay(false), createMonthOfDay(true)};
+    private static final int[][] MONTH_START = {createMonthStarts(false), createMonthStarts(true)};
+
+    public static BanglaDate toBanglaDate(LocalDate localDate) {
+        return toBanglaDate(localDate.toEpochDay());
+    }
+
+    /**
+     * @throws DateTimeException if {@code epochDay} is outside the range of {@link LocalDate}
+     */
+    public static BanglaDate toBanglaDate(long epochDay) {
+        long packed = convert(epochDay);
+        return new BanglaDate(year(packed), monthValue(packed), dayOfMonth(packed));
+    }
+
+    /**
+     * @param monthValue The month from 1 (Boishakh) to 12 (Choitro)
+     * @param isBangla   True for the Bangla name, e.g. বৈশাখ; false for the English spelling, e.g. Boishakh
+     * @throws DateTimeException if {@code monthValue} is not a month
+     */
+    public static String getMonthName(int monthValue, boolean isBangla) {
+        ChronoField.MONTH_OF_YEAR.checkValidValue(monthValue);
+        return (isBangla ? BANGLA_MONTH_NAMES : ENGLISH_MONTH_NAMES)[monthValue - 1];
+    }
+
+    /**
+     * Formats the Bangla date of {@code localDate}, e.g. "১ বৈশাখ ১৪৩১ বঙ্গাব্দ" for 14 April 2024, or
+     * "1 Boishakh 1431 Bangabda" in English.
+     */
+    public static String formatDate(LocalDate localDate, boolean isBangla) {
+        long start = Instrumentation.start();
+        char[] buffer = new char[MAX_DATE_LENGTH];
+        String formatted = new String(buffer, 0, renderDate(buffer, 0, localDate.toEpochDay(), isBangla));
+        Instrumentation.record(ConversionListener.Operation.DATE, isBangla, start);
+        return formatted;
+    }
+
+    /**
+     * Writes the Bangla date of {@code epochDay} into a caller-owned buffer, so a loop can reuse one buffer
+     * for every row.
+     *
+     * @param buffer The buffer to write into; needs {@link #MAX_DATE_LENGTH} chars free from {@code offset}
+     * @param offset Where to start writing
+     * @return The offset just past the last char written
+     * @throws DateTimeException if {@code epochDay} is outside the range of {@link LocalDate}
+     */
+    public static int renderDate(char[] buffer, int offset, long epochDay, boolean isBangla) {
+        long packed = convert(epochDay);
+        char zeroDigit = isBangla ? NumberUtils.BANGLA_ZERO_DIGIT : NumberUtils.ENGLISH_ZERO_DIGIT;
+        int position = writeNumber(buffer, offset, dayOfMonth(packed), zeroDigit);
+        buffer[position++] = ' ';
+        position = writeText(buffer, position, (isBangla ? BANGLA_MONTH_NAMES : ENGLISH_MONTH_NAMES)[monthValue(packed) - 1]);
+        buffer[position++] = ' ';
+        position = writeNumber(buffer, position, year(packed), zeroDigit);
+        buffer[position++] = ' ';
+        return writeText(buffer, position, isBangla ? BANGLA_ERA_TEXT : ENGLISH_ERA_TEXT);
+    }
+
+    /**
+     * Writes the Bangla date of {@code localDate} into {@code out}.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendDate(A out, LocalDate localDate, boolean isBangla) {
+        char[] buffer = new char[MAX_DATE_LENGTH];
+        int length = renderDate(buffer, 0, localDate.toEpochDay(), isBangla);
+        try {
+            if (out instanceof StringBuilder) {
+                ((StringBuilder) out).append(buffer, 0, length);
+            } else {
+                for (int i = 0; i < length; i++) {
+                    out.append(buffer[i]);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    /**
+     * Writes the Bangla date of {@code localDate} into {@code out} as UTF-8.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room
+     */
+    public static ByteBuffer encodeDate(ByteBuffer out, LocalDate localDate, boolean isBangla) {
+        char[] buffer = new char[MAX_DATE_LENGTH];
+        Utf8.put(out, buffer, 0, renderDate(buffer, 0, localDate.toEpochDay(), isBangla));
+        return out;
+    }
+
+    /**
+     * Formats a batch of epoch days, filling {@code out} index by index and reusing one buffer for the
+     * whole batch.
+     *
+     * @param epochDays Days since 1970-01-01, as from {@link LocalDate#toEpochDay()}
+     * @param out       Receives the date for {@code epochDays[i]} at index {@code i}; must be at least as long as {@code epochDays}
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code epochDays}; nothing is written then
+     */
+    public static void formatAll(long[] epochDays, boolean isBangla, String[] out) {
+        checkOutputLength(out.length, epochDays.length);
+        char[] buffer = new char[MAX_DATE_LENGTH];
+        for (int i = 0; i < epochDays.length; i++) {
+            out[i] = new String(buffer, 0, renderDate(buffer, 0, epochDays[i], isBangla));
+        }
+    }
+
+    /**
+     * Formats a batch of dates; a null date gives a null entry.
+     *
+     * @return The dates in the order of {@code dates}
+     */
+    public static List<String> formatAll(List<LocalDate> dates, boolean isBangla) {
+        char[] buffer = new char[MAX_DATE_LENGTH];
+        List<String> formatted = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            formatted.add(date == null ? null : new String(buffer, 0, renderDate(buffer, 0, date.toEpochDay(), isBangla)));
+        }
+        return formatted;
+    }
+
+    /**
+     * Converts a batch of epoch days to Bangla dates without creating any objects, writing each as the
+     * number {@code yyyyMMdd}, e.g. 14310101 for 1 Boishakh 1431.
+     *
+     * @param epochDays Days since 1970-01-01, as from {@link LocalDate#toEpochDay()}
+     * @param out       Receives the date for {@code epochDays[i]} at index {@code i}; must be at least as long as {@code epochDays}
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code epochDays}; nothing is written then
+     * @throws DateTimeException if a date falls outside the Bangla years 1 to 9999
+     */
+    public static void convertAll(long[] epochDays, int[] out) {
+        checkOutputLength(out.length, epochDays.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            long packed = convert(epochDays[i]);
+            int year = year(packed);
+            if (year < 1 || year > 9999) {
+                throw new DateTimeException("Bangla year " + year + " of epoch day " + epochDays[i] + " does not fit yyyyMMdd");
+            }
+            out[i] = year * 10_000 + monthValue(packed) * 100 + dayOfMonth(packed);
+        }
+    }
+
+    private static void checkOutputLength(int outLength, int inputLength) {
+        if (outLength < inputLength) {
+            throw new IllegalArgumentException("Output array holds " + outLength + " entries but " + inputLength + " dates were given");
+        }
+    }
+
+    /**
+     * Looks up the Bangla date of an epoch day, packed as {@code year << 16 | month << 8 | day}.
+     */
+    private static long convert(long epochDay) {
+        ChronoField.EPOCH_DAY.checkValidValue(epochDay);
+        long days = epochDay - CYCLE_START_EPOCH_DAY;
+        long cycle = Math.floorDiv(days, DAYS_PER_CYCLE);
+        int dayOfCycle = (int) (days - cycle * DAYS_PER_CYCLE);
+
+        // The even spread of days over the cycle misses the real year start by less than a year
+        int yearOfCycle = (int) ((long) dayOfCycle * YEARS_PER_CYCLE / DAYS_PER_CYCLE);
+        if (YEAR_START[yearOfCycle] > dayOfCycle) {
+            yearOfCycle--;
+        } else if (YEAR_START[yearOfCycle + 1] <= dayOfCycle) {
+            yearOfCycle++;
+        }
+
+        int dayOfYear = dayOfCycle - YEAR_START[yearOfCycle];
+        int layout = YEAR_START[yearOfCycle + 1] - YEAR_START[yearOfCycle] - 365;
+        int month = MONTH_OF_DAY[layout][dayOfYear];
+        int dayOfMonth = dayOfYear - MONTH_START[layout][month] + 1;
+        long year = cycle * YEARS_PER_CYCLE + yearOfCycle - GREGORIAN_YEAR_OFFSET;
+        return year << 16 | (month + 1) << 8 | dayOfMonth;
+    }
+
+    private static int year(long packed) {
+        return (int) (packed >> 16);
+    }
+
+    private static int monthValue(long packed) {
+        return (int) (packed >> 8) & 0xFF;
+    }
+
+    private static int dayOfMonth(long packed) {
+        return (int) packed & 0xFF;
+    }
+
+    private static int writeNumber(char[] buffer, int position, int value, char zeroDigit) {
+        if (value < 0) {
+            buffer[position++] = '-';
+        }
+        long remaining = Math.abs((long) value);
+        int digits = 1;
+        for (long bound = 10; bound <= remaining; bound *= 10) {
+            digits++;
+        }
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (char) (zeroDigit + remaining % 10);
+            remaining /= 10;
+        }
+        return position + digits;
+    }
+
+    private static int writeText(char[] buffer, int position, String text) {
+        text.getChars(0, text.length(), buffer, position);
+        return position + text.length();
+    }
+
+    private static int[] createYearStarts() {
+        int[] yearStarts = new int[YEARS_PER_CYCLE + 1];
+        for (int i = 0; i < YEARS_PER_CYCLE; i++) {
+            // Falgun of the year starting in Gregorian year i falls in February of year i + 1
+            yearStarts[i + 1] = yearStarts[i] + (Year.isLeap(i + 1) ? 366 : 365);
+        }
+        return yearStarts;
+    }
+
+    private static int[] createMonthStarts(boolean isLeapYear) {
+        int[] monthStarts = new int[MONTH_LENGTHS.length];
+        for (int month = 1; month < MONTH_LENGTHS.length; month++) {
+            monthStarts[month] = monthStarts[month - 1] + monthLength(month - 1, isLeapYear);
+        }
+        return monthStarts;
+    }
+
+    private static byte[] createMonthOfDay(boolean isLeapYear) {
+        byte[] monthOfDay = new byte[isLeapYear ? 366 : 365];
+        int day = 0;
+        for (int month = 0; month < MONTH_LENGTHS.length; month++) {
+            for (int i = 0; i < monthLength(month, isLeapYear); i++) {
+                monthOfDay[day++] = (byte) month;
+            }
+        }
+        return monthOfDay;
+    }
+
+    private static int monthLength(int month, boolean isLeapYear) {
+        return month == FALGUN && isLeapYear ? MONTH_LENGTHS[month] + 1 : MONTH_LENGTHS[month];
+    }
+}
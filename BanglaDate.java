@@ -0,0 +1,67 @@
+import java.util.Objects;
+
+/**
+ * A date in the Bengali calendar (Bangabda) as used in Bangladesh, e.g. 1 Boishakh 1431. Obtain one from
+ * {@link BanglaCalendar#toBanglaDate(java.time.LocalDate)}.
+ */
+public final class BanglaDate {
+    private final int year;
+    private final int monthValue;
+    private final int dayOfMonth;
+
+    BanglaDate(int year, int monthValue, int dayOfMonth) {
+        this.year = year;
+        this.monthValue = monthValue;
+        this.dayOfMonth = dayOfMonth;
+    }
+
+    /**
+     * @return The year in Bangabda, e.g. 1431 for the year that starts on 14 April 2024
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * @return The month from 1 (Boishakh) to 12 (Choitro)
+     */
+    public int getMonthValue() {
+        return monthValue;
+    }
+
+    public int getDayOfMonth() {
+        return dayOfMonth;
+    }
+
+    /**
+     * @param isBangla True for the Bangla name, e.g. বৈশাখ; false for the English spelling, e.g. Boishakh
+     */
+    public String getMonthName(boolean isBangla) {
+        return BanglaCalendar.getMonthName(monthValue, isBangla);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BanglaDate)) {
+            return false;
+        }
+        BanglaDate other = (BanglaDate) o;
+        return year == other.year && monthValue == other.monthValue && dayOfMonth == other.dayOfMonth;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(year, monthValue, dayOfMonth);
+    }
+
+    /**
+     * @return The date as year-month-day, e.g. 1431-01-01
+     */
+    @Override
+    public String toString() {
+        return String.format("%04d-%02d-%02d", year, monthValue, dayOfMonth);
+    }
+}
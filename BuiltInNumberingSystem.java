@@ -0,0 +1,109 @@
+/**
+ * The numbering systems that ship with the library, behind the built-in formats of {@link NumberingFormat}.
+ * Each one is created by its own factory method, so a language's vocabulary is only touched when its
+ * format is first used.
+ */
+final class BuiltInNumberingSystem implements NumberingSystem {
+    private static final String[] INTERNATIONAL_SCALE_WORDS = {"Hundred", "Thousand", "Million", "Billion", "Trillion", "Quadrillion"};
+
+    static NumberingSystem bangla() {
+        return new BuiltInNumberingSystem(TkInWord.BanglaText.NUMBER_TO_TEXT, scaleWords(TkInWord.BanglaText.GROUP_TEXT), Grouping.INDIAN,
+                TkInWord.BANGLA_TAKA_TEXT, TkInWord.BANGLA_PAISA_TEXT, TkInWord.BANGLA_ONLY_TEXT, NumberUtils.BANGLA_ZERO_DIGIT);
+    }
+
+    static NumberingSystem english() {
+        return new BuiltInNumberingSystem(TkInWord.EnglishText.NUMBER_TO_TEXT, scaleWords(TkInWord.EnglishText.GROUP_TEXT), Grouping.INDIAN,
+                TkInWord.ENGLISH_TAKA_TEXT, TkInWord.ENGLISH_PAISA_TEXT, TkInWord.ENGLISH_ONLY_TEXT, NumberUtils.ENGLISH_ZERO_DIGIT);
+    }
+
+    static NumberingSystem indianEnglish() {
+        return new BuiltInNumberingSystem(TkInWord.EnglishText.NUMBER_TO_TEXT, scaleWords(TkInWord.EnglishText.GROUP_TEXT), Grouping.INDIAN,
+                "Rupees", "Paise", "Only", NumberUtils.ENGLISH_ZERO_DIGIT);
+    }
+
+    static NumberingSystem internationalEnglish() {
+        return new BuiltInNumberingSystem(TkInWord.EnglishText.NUMBER_TO_TEXT, INTERNATIONAL_SCALE_WORDS, Grouping.INTERNATIONAL,
+                TkInWord.ENGLISH_TAKA_TEXT, TkInWord.ENGLISH_PAISA_TEXT, TkInWord.ENGLISH_ONLY_TEXT, NumberUtils.ENGLISH_ZERO_DIGIT);
+    }
+
+    static NumberingSystem hindi() {
+        return new BuiltInNumberingSystem(createNumberToHindiTextArray(), new String[]{"सौ", "हज़ार", "लाख", "करोड़"}, Grouping.INDIAN,
+                "रुपये", "पैसे", "मात्र", '०');
+    }
+
+    private final String[] numberWords;
+    private final String[] scaleWords;
+    private final Grouping grouping;
+    private final String currencyText;
+    private final String subUnitText;
+    private final String onlyText;
+    private final char zeroDigit;
+
+    private BuiltInNumberingSystem(String[] numberWords, String[] scaleWords, Grouping grouping, String currencyText, String subUnitText, String onlyText, char zeroDigit) {
+        this.numberWords = numberWords;
+        this.scaleWords = scaleWords;
+        this.grouping = grouping;
+        this.currencyText = currencyText;
+        this.subUnitText = subUnitText;
+        this.onlyText = onlyText;
+        this.zeroDigit = zeroDigit;
+    }
+
+    @Override
+    public String[] numberWords() {
+        return numberWords.clone();
+    }
+
+    @Override
+    public String[] scaleWords() {
+        return scaleWords.clone();
+    }
+
+    @Override
+    public Grouping grouping() {
+        return grouping;
+    }
+
+    @Override
+    public String currencyText() {
+        return currencyText;
+    }
+
+    @Override
+    public String subUnitText() {
+        return subUnitText;
+    }
+
+    @Override
+    public String onlyText() {
+        return onlyText;
+    }
+
+    @Override
+    public char zeroDigit() {
+        return zeroDigit;
+    }
+
+    /**
+     * Reorders the position-indexed group text of {@link TkInWord} into hundred, thousand, lakh, crore.
+     */
+    private static String[] scaleWords(String[] groupText) {
+        return new String[]{groupText[TkInWord.HUNDRED_POSITION], groupText[TkInWord.THOUSAND_POSITION],
+                groupText[TkInWord.LAKH_POSITION], groupText[TkInWord.CRORE_POSITION]};
+    }
+
+    private static String[] createNumberToHindiTextArray() {
+        return new String[]{
+                "शून्य", "एक", "दो", "तीन", "चार", "पाँच", "छह", "सात", "आठ", "नौ",
+                "दस", "ग्यारह", "बारह", "तेरह", "चौदह", "पंद्रह", "सोलह", "सत्रह", "अठारह", "उन्नीस",
+                "बीस", "इक्कीस", "बाईस", "तेईस", "चौबीस", "पच्चीस", "छब्बीस", "सत्ताईस", "अट्ठाईस", "उनतीस",
+                "तीस", "इकतीस", "बत्तीस", "तैंतीस", "चौंतीस", "पैंतीस", "छत्तीस", "सैंतीस", "अड़तीस", "उनतालीस",
+                "चालीस", "इकतालीस", "बयालीस", "तैंतालीस", "चवालीस", "पैंतालीस", "छियालीस", "सैंतालीस", "अड़तालीस", "उनचास",
+                "पचास", "इक्यावन", "बावन", "तिरेपन", "चौवन", "पचपन", "छप्पन", "सत्तावन", "अट्ठावन", "उनसठ",
+                "साठ", "इकसठ", "बासठ", "तिरेसठ", "चौंसठ", "पैंसठ", "छियासठ", "सड़सठ", "अड़सठ", "उनहत्तर",
+                "सत्तर", "इकहत्तर", "बहत्तर", "तिहत्तर", "चौहत्तर", "पचहत्तर", "छिहत्तर", "सतहत्तर", "अठहत्तर", "उन्यासी",
+                "अस्सी", "इक्यासी", "बयासी", "तिरासी", "चौरासी", "पचासी", "छियासी", "सत्तासी", "अट्ठासी", "नवासी",
+                "नब्बे", "इक्यानबे", "बानबे", "तिरानबे", "चौरानबे", "पचानबे", "छियानबे", "सत्तानबे", "अट्ठानबे", "निन्यानबे"
+        };
+    }
+}
@@ -0,0 +1,122 @@
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Opt-in caching front for the conversions whose inputs repeat heavily in practice: fees, fixed
+ * installments and common prices, and the handful of dates a report covers.
+ * <p>
+ * Every operation and language keeps its own {@link ResultCache}, so a key is the pair of the input
+ * and the mode without building a composite key object per lookup. One instance is safe to share
+ * between threads; create it once and keep it for the lifetime of the application.
+ * <p>
+ * Amounts are looked up by their value in paisa rather than by {@link BigDecimal#equals(Object)}, which
+ * tells 1, 1.0 and 1.00 apart; so every way of writing the same amount shares one entry. In words, the
+ * amounts whose output depends on more than their paisa value (negative ones, written as given, and ones
+ * beyond the long range) are cached as given; money beyond the long range is formatted without the cache.
+ */
+public class CachedConversions {
+    private final ResultCache<BigDecimal, String> banglaWordsCache;
+    private final ResultCache<BigDecimal, String> englishWordsCache;
+    private final ResultCache<Long, String> banglaPaisaWordsCache;
+    private final ResultCache<Long, String> englishPaisaWordsCache;
+    private final ResultCache<Long, String> banglaMoneyCache;
+    private final ResultCache<Long, String> westernMoneyCache;
+    private final ResultCache<LocalDate, String> banglaDateCache;
+    private final ResultCache<?, ?>[] caches;
+
+    /**
+     * @param maximumSize The most entries kept for each operation and language
+     */
+    public CachedConversions(int maximumSize) {
+        banglaWordsCache = new ResultCache<>(maximumSize, ConversionListener.Operation.WORDS, true);
+        englishWordsCache = new ResultCache<>(maximumSize, ConversionListener.Operation.WORDS, false);
+        banglaPaisaWordsCache = new ResultCache<>(maximumSize, ConversionListener.Operation.WORDS, true);
+        englishPaisaWordsCache = new ResultCache<>(maximumSize, ConversionListener.Operation.WORDS, false);
+        banglaMoneyCache = new ResultCache<>(maximumSize, ConversionListener.Operation.COMMA_SEPARATED, true);
+        westernMoneyCache = new ResultCache<>(maximumSize, ConversionListener.Operation.COMMA_SEPARATED, false);
+        banglaDateCache = new ResultCache<>(maximumSize, ConversionListener.Operation.DATE, true);
+        caches = new ResultCache<?, ?>[]{banglaWordsCache, englishWordsCache, banglaPaisaWordsCache, englishPaisaWordsCache,
+                banglaMoneyCache, westernMoneyCache, banglaDateCache};
+    }
+
+    /**
+     * Cached {@link TkInWord#convertToTkInWordByLocale(BigDecimal, boolean)}.
+     */
+    public String convertToTkInWordByLocale(BigDecimal amount, boolean isBangla) {
+        if (amount == null) {
+            return null;
+        }
+        long paisa = amount.signum() < 0 ? -1 : TkInWord.toPaisa(amount);
+        if (paisa >= 0) {
+            return convertToTkInWordByLocale(paisa, isBangla);
+        }
+        return isBangla ? banglaWordsCache.get(amount, key -> TkInWord.convertToTkInWordByLocale(key, true))
+                : englishWordsCache.get(amount, key -> TkInWord.convertToTkInWordByLocale(key, false));
+    }
+
+    /**
+     * Cached {@link TkInWord#convertToTkInWordByLocale(long, boolean)}.
+     */
+    public String convertToTkInWordByLocale(long paisa, boolean isBangla) {
+        return isBangla ? banglaPaisaWordsCache.get(paisa, key -> TkInWord.convertToTkInWordByLocale(key, true))
+                : englishPaisaWordsCache.get(paisa, key -> TkInWord.convertToTkInWordByLocale(key, false));
+    }
+
+    /**
+     * Cached {@link TkInWord#formatCommaSeperatedMoneyByLocale(BigDecimal, boolean)}.
+     */
+    public String formatCommaSeperatedMoneyByLocale(BigDecimal amount, boolean isBangla) {
+        if (amount == null) {
+            return null;
+        }
+        long paisa = CommaSeparatedFormatter.toUnscaled(amount, 2, RoundingMode.HALF_UP);
+        if (paisa == CommaSeparatedFormatter.DOES_NOT_FIT) {
+            return TkInWord.formatCommaSeperatedMoneyByLocale(amount, isBangla);
+        }
+        return isBangla ? banglaMoneyCache.get(paisa, key -> TkInWord.formatCommaSeperatedMoneyByLocale(Money.ofPaisa(key), true))
+                : westernMoneyCache.get(paisa, key -> TkInWord.formatCommaSeperatedMoneyByLocale(Money.ofPaisa(key), false));
+    }
+
+    /**
+     * Cached {@link DateUtils#getBanglaDate(LocalDate)}.
+     */
+    public String getBanglaDate(LocalDate localDate) {
+        if (localDate == null) {
+            return null;
+        }
+        return banglaDateCache.get(localDate, DateUtils::getBanglaDate);
+    }
+
+    public long hitCount() {
+        long hitCount = 0;
+        for (ResultCache<?, ?> cache : caches) {
+            hitCount += cache.hitCount();
+        }
+        return hitCount;
+    }
+
+    public long missCount() {
+        long missCount = 0;
+        for (ResultCache<?, ?> cache : caches) {
+            missCount += cache.missCount();
+        }
+        return missCount;
+    }
+
+    public long evictionCount() {
+        long evictionCount = 0;
+        for (ResultCache<?, ?> cache : caches) {
+            evictionCount += cache.evictionCount();
+        }
+        return evictionCount;
+    }
+
+    public int size() {
+        int size = 0;
+        for (ResultCache<?, ?> cache : caches) {
+            size += cache.size();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,366 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+
+/**
+ * The single comma separated number engine behind {@link TkInWord} and {@link EnglishNumberToCommaSeparatedBanglaTk}.
+ * <p>
+ * An amount is reduced to an unscaled long at the wanted scale with integer arithmetic, then written
+ * right to left into a presized char[] in one pass: fraction digits, the decimal point, and the integer
+ * digits with commas in 3, 2, 2 (৩,১৩,১২৩) or Western 3, 3, 3 (313,123) positions. Bangla or ASCII digits
+ * are chosen as each digit is written. Only amounts that do not fit in a long take the BigDecimal route.
+ */
+public class CommaSeparatedFormatter {
+    static final int BUFFER_SIZE = 64;
+    static final long DOES_NOT_FIT = Long.MIN_VALUE;
+    private static final long[] POWERS_OF_TEN = createPowersOfTen();
+
+    /**
+     * How an amount is grouped and which digits it is written with. Besides the constants, each
+     * {@link NumberingFormat} carries the style of its numbering system.
+     */
+    static final class Style {
+        static final Style BANGLA = new Style(true, NumberUtils.BANGLA_ZERO_DIGIT);
+        static final Style BANGLA_GROUPING_ENGLISH_DIGITS = new Style(true, NumberUtils.ENGLISH_ZERO_DIGIT);
+        static final Style WESTERN = new Style(false, NumberUtils.ENGLISH_ZERO_DIGIT);
+
+        private final boolean isBanglaGrouping;
+        private final char zeroDigit;
+
+        /**
+         * @param isBanglaGrouping True for 3, 2, 2 grouping; false for 3, 3, 3
+         * @param zeroDigit        The zero of the digit set; the other nine must follow it
+         */
+        Style(boolean isBanglaGrouping, char zeroDigit) {
+            this.isBanglaGrouping = isBanglaGrouping;
+            this.zeroDigit = zeroDigit;
+        }
+
+        static Style of(boolean isBangla) {
+            return isBangla ? BANGLA : WESTERN;
+        }
+    }
+
+    /**
+     * Formats an amount in paisa as comma separated money with two decimals,
+     * e.g. 31312321 paisa as "৩,১৩,১২৩.২১" or "313,123.21".
+     *
+     * @param paisa    The amount in paisa (1 Taka = 100 Paisa)
+     * @param isBangla True for Bangla grouping and digits; false for Western
+     * @return Formatted string representation of the amount
+     */
+    public static String formatPaisa(long paisa, boolean isBangla) {
+        return formatPaisa(paisa, Style.of(isBangla));
+    }
+
+    /**
+     * Writes the output of {@link #formatPaisa(long, boolean)} into a caller-supplied buffer.
+     *
+     * @param out      The StringBuilder, CharBuffer or other Appendable to write into
+     * @param paisa    The amount in paisa (1 Taka = 100 Paisa)
+     * @param isBangla True for Bangla grouping and digits; false for Western
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendPaisa(A out, long paisa, boolean isBangla) {
+        return appendPaisa(out, paisa, Style.of(isBangla));
+    }
+
+    /**
+     * Writes the output of {@link #formatPaisa(long, boolean)} into {@code out} as UTF-8.
+     *
+     * @param out      A heap or direct buffer, written from its position onwards
+     * @param paisa    The amount in paisa (1 Taka = 100 Paisa)
+     * @param isBangla True for Bangla grouping and digits; false for Western
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room
+     */
+    public static ByteBuffer encodePaisa(ByteBuffer out, long paisa, boolean isBangla) {
+        return encodePaisa(out, paisa, Style.of(isBangla));
+    }
+
+    /**
+     * Formats an amount in paisa as comma separated money with two decimals in {@code style}. No rounding
+     * is involved, so every money formatter that takes a {@link Money} comes down to this.
+     */
+    static String formatPaisa(long paisa, Style style) {
+        if (paisa == DOES_NOT_FIT) {
+            return format(BigDecimal.valueOf(paisa, 2), 2, RoundingMode.UNNECESSARY, false, style);
+        }
+
+        long startNanos = Instrumentation.start();
+        char[] buffer = new char[BUFFER_SIZE];
+        int start = write(buffer, paisa, 2, false, style);
+        String formatted = new String(buffer, start, BUFFER_SIZE - start);
+        Instrumentation.record(ConversionListener.Operation.COMMA_SEPARATED, style.isBanglaGrouping, startNanos);
+        return formatted;
+    }
+
+    /**
+     * Writes the output of {@link #formatPaisa(long, Style)} into {@code out}.
+     */
+    static <A extends Appendable> A appendPaisa(A out, long paisa, Style style) {
+        if (paisa == DOES_NOT_FIT) {
+            return append(out, BigDecimal.valueOf(paisa, 2), 2, RoundingMode.UNNECESSARY, false, style);
+        }
+
+        char[] buffer = new char[BUFFER_SIZE];
+        int start = write(buffer, paisa, 2, false, style);
+        return append(out, buffer, start);
+    }
+
+    /**
+     * Writes the output of {@link #formatPaisa(long, Style)} into {@code out} as UTF-8.
+     */
+    static ByteBuffer encodePaisa(ByteBuffer out, long paisa, Style style) {
+        if (paisa == DOES_NOT_FIT) {
+            return encode(out, BigDecimal.valueOf(paisa, 2), 2, RoundingMode.UNNECESSARY, false, style);
+        }
+
+        char[] buffer = new char[BUFFER_SIZE];
+        int start = write(buffer, paisa, 2, false, style);
+        Utf8.put(out, buffer, start, BUFFER_SIZE);
+        return out;
+    }
+
+    /**
+     * Formats a number rounded to {@code fractionDigits} decimals.
+     *
+     * @param stripTrailingZeros True to drop trailing fraction zeros, and the decimal point if none are left
+     */
+    static String format(BigDecimal number, int fractionDigits, RoundingMode roundingMode, boolean stripTrailingZeros, Style style) {
+        long startNanos = Instrumentation.start();
+        String formatted;
+        long unscaled = toUnscaled(number, fractionDigits, roundingMode);
+        if (unscaled == DOES_NOT_FIT) {
+            formatted = append(new StringBuilder(), number, fractionDigits, roundingMode, stripTrailingZeros, style).toString();
+        } else {
+            char[] buffer = new char[BUFFER_SIZE];
+            int start = write(buffer, unscaled, fractionDigits, stripTrailingZeros, style);
+            formatted = new String(buffer, start, BUFFER_SIZE - start);
+        }
+        Instrumentation.record(ConversionListener.Operation.COMMA_SEPARATED, style.isBanglaGrouping, startNanos);
+        return formatted;
+    }
+
+    /**
+     * Writes the output of {@link #format(BigDecimal, int, RoundingMode, boolean, Style)} into {@code out}.
+     */
+    static <A extends Appendable> A append(A out, BigDecimal number, int fractionDigits, RoundingMode roundingMode, boolean stripTrailingZeros, Style style) {
+        long unscaled = toUnscaled(number, fractionDigits, roundingMode);
+        if (unscaled != DOES_NOT_FIT) {
+            char[] buffer = new char[BUFFER_SIZE];
+            int start = write(buffer, unscaled, fractionDigits, stripTrailingZeros, style);
+            return append(out, buffer, start);
+        }
+
+        BigDecimal rounded = number.setScale(fractionDigits, roundingMode);
+        if (stripTrailingZeros) {
+            rounded = rounded.stripTrailingZeros();
+        }
+        try {
+            appendPlain(out, rounded.toPlainString(), style);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    /**
+     * Writes the output of {@link #format(BigDecimal, int, RoundingMode, boolean, Style)} into {@code out} as UTF-8.
+     */
+    static ByteBuffer encode(ByteBuffer out, BigDecimal number, int fractionDigits, RoundingMode roundingMode, boolean stripTrailingZeros, Style style) {
+        long unscaled = toUnscaled(number, fractionDigits, roundingMode);
+        if (unscaled == DOES_NOT_FIT) {
+            Utf8.put(out, format(number, fractionDigits, roundingMode, stripTrailingZeros, style));
+            return out;
+        }
+
+        char[] buffer = new char[BUFFER_SIZE];
+        int start = write(buffer, unscaled, fractionDigits, stripTrailingZeros, style);
+        Utf8.put(out, buffer, start, BUFFER_SIZE);
+        return out;
+    }
+
+    /**
+     * Writes the output of {@link #format(BigDecimal, int, RoundingMode, boolean, Style)} right-aligned into a
+     * caller-owned buffer of {@link #BUFFER_SIZE} chars, so one buffer can serve every amount.
+     *
+     * @return The index of the first character written, or -1 if the number does not fit in a long and has to
+     * go through {@link #format(BigDecimal, int, RoundingMode, boolean, Style)}
+     */
+    static int render(char[] buffer, BigDecimal number, int fractionDigits, RoundingMode roundingMode, boolean stripTrailingZeros, Style style) {
+        long unscaled = toUnscaled(number, fractionDigits, roundingMode);
+        return unscaled == DOES_NOT_FIT ? -1 : write(buffer, unscaled, fractionDigits, stripTrailingZeros, style);
+    }
+
+    /**
+     * Writes {@code unscaled / 10^scale} right-aligned into {@code buffer}.
+     *
+     * @return The index of the first character written
+     */
+    static int write(char[] buffer, long unscaled, int scale, boolean stripTrailingZeros, Style style) {
+        long magnitude = Math.abs(unscaled);
+        char zeroDigit = style.zeroDigit;
+        int position = buffer.length;
+
+        int fractionDigits = scale;
+        if (stripTrailingZeros) {
+            while (fractionDigits > 0 && magnitude % 10 == 0) {
+                magnitude /= 10;
+                fractionDigits--;
+            }
+        }
+        for (int i = 0; i < fractionDigits; i++) {
+            buffer[--position] = (char) (zeroDigit + magnitude % 10);
+            magnitude /= 10;
+        }
+        if (fractionDigits > 0) {
+            buffer[--position] = '.';
+        }
+
+        int positionFromRight = 0;
+        do {
+            if (positionFromRight > 0 && isGroupBoundary(positionFromRight, style.isBanglaGrouping)) {
+                buffer[--position] = ',';
+            }
+            buffer[--position] = (char) (zeroDigit + magnitude % 10);
+            magnitude /= 10;
+            positionFromRight++;
+        } while (magnitude > 0);
+
+        if (unscaled < 0) {
+            buffer[--position] = '-';
+        }
+        return position;
+    }
+
+    /**
+     * Writes a plain (non-exponent) number with separators, for amounts too large for {@link #write}.
+     */
+    private static void appendPlain(Appendable out, String plainNumber, Style style) throws IOException {
+        Instrumentation.event(ConversionListener.Operation.COMMA_SEPARATED, style.isBanglaGrouping, ConversionListener.Event.FALLBACK);
+        int length = plainNumber.length();
+        int integerStart = 0;
+        if (length > 0 && plainNumber.charAt(0) == '-') {
+            out.append('-');
+            integerStart = 1;
+        }
+
+        int integerEnd = plainNumber.indexOf('.');
+        if (integerEnd < 0) {
+            integerEnd = length;
+        }
+
+        for (int i = integerStart; i < integerEnd; i++) {
+            out.append(toDigit(plainNumber.charAt(i), style.zeroDigit));
+
+            int positionFromRight = integerEnd - 1 - i;
+            if (positionFromRight > 0 && isGroupBoundary(positionFromRight, style.isBanglaGrouping)) {
+                out.append(',');
+            }
+        }
+
+        for (int i = integerEnd; i < length; i++) {
+            out.append(toDigit(plainNumber.charAt(i), style.zeroDigit));
+        }
+    }
+
+    private static boolean isGroupBoundary(int positionFromRight, boolean isBanglaGrouping) {
+        if (!isBanglaGrouping) {
+            return positionFromRight % 3 == 0;
+        }
+        int positionInGroup = positionFromRight % 7;
+        return positionInGroup == 0 || positionInGroup == 3 || positionInGroup == 5;
+    }
+
+    private static char toDigit(char c, char zeroDigit) {
+        return c >= '0' && c <= '9' ? (char) (zeroDigit + (c - '0')) : c;
+    }
+
+    private static <A extends Appendable> A append(A out, char[] buffer, int start) {
+        try {
+            if (out instanceof StringBuilder) {
+                ((StringBuilder) out).append(buffer, start, buffer.length - start);
+            } else {
+                for (int i = start; i < buffer.length; i++) {
+                    out.append(buffer[i]);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    /**
+     * Rescales a number to {@code scale} decimals with integer arithmetic, as
+     * {@code number.setScale(scale, roundingMode).unscaledValue()} would.
+     *
+     * @return The unscaled value, or {@link #DOES_NOT_FIT} if it is outside the long range
+     */
+    static long toUnscaled(BigDecimal number, int scale, RoundingMode roundingMode) {
+        if (scale < 0 || scale >= POWERS_OF_TEN.length) {
+            return DOES_NOT_FIT;
+        }
+
+        BigInteger unscaledValue = number.unscaledValue();
+        if (unscaledValue.bitLength() >= Long.SIZE - 1) {
+            return DOES_NOT_FIT;
+        }
+
+        long unscaled = unscaledValue.longValue();
+        int shift = scale - number.scale();
+        if (shift >= 0) {
+            if (shift >= POWERS_OF_TEN.length || Math.abs(unscaled) > Long.MAX_VALUE / POWERS_OF_TEN[shift]) {
+                return unscaled == 0 ? 0 : DOES_NOT_FIT;
+            }
+            return unscaled * POWERS_OF_TEN[shift];
+        }
+
+        if (-shift >= POWERS_OF_TEN.length) {
+            // |unscaled| < 2^62 is less than half of 10^19, so the number rounds to 0 or 1 by its sign and the mode
+            return divideAndRound(Long.signum(unscaled), 10, roundingMode);
+        }
+        return divideAndRound(unscaled, POWERS_OF_TEN[-shift], roundingMode);
+    }
+
+    /**
+     * Divides by a positive divisor and rounds the quotient the way BigDecimal does for {@code roundingMode}.
+     *
+     * @throws ArithmeticException if the mode is {@link RoundingMode#UNNECESSARY} and the division is inexact
+     */
+    static long divideAndRound(long dividend, long divisor, RoundingMode roundingMode) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+
+        int signum = dividend < 0 ? -1 : 1;
+        long twiceRemainder = Math.abs(remainder) * 2;
+        boolean awayFromZero = switch (roundingMode) {
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> signum > 0;
+            case FLOOR -> signum < 0;
+            case HALF_UP -> twiceRemainder >= divisor;
+            case HALF_DOWN -> twiceRemainder > divisor;
+            case HALF_EVEN -> twiceRemainder > divisor || twiceRemainder == divisor && (quotient & 1) != 0;
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+        };
+        return awayFromZero ? quotient + signum : quotient;
+    }
+
+    private static long[] createPowersOfTen() {
+        long[] powersOfTen = new long[19];
+        powersOfTen[0] = 1;
+        for (int i = 1; i < powersOfTen.length; i++) {
+            powersOfTen[i] = powersOfTen[i - 1] * 10;
+        }
+        return powersOfTen;
+    }
+}
@@ -0,0 +1,363 @@
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Reads comma separated money back into paisa: the output of {@link CommaSeparatedFormatter}, such as
+ * "৩,১৩,১২৩.২১" or "313,123.21", as well as plain "313123.21".
+ * <p>
+ * Digits may be Bangla or ASCII but not mixed. Commas must sit where one of the two groupings puts them,
+ * 3, 2, 2 (৩,১৩,১২৩) or 3, 3, 3 (313,123); a number without commas is accepted as it is. Up to two
+ * decimals are read, and further decimals only if they are zero, so the result is always exact.
+ * Surrounding whitespace and a leading minus sign are allowed. The text is read once, char by char or
+ * byte by byte, without creating any objects.
+ */
+public class CommaSeparatedParser {
+    /**
+     * Returned for text that is not a valid amount or does not fit in a long of paisa.
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final char NO_BREAK_SPACE = '\u00A0';
+    // Caps for plain decimals read from outside: beyond them a BigDecimal can take seconds or gigabytes to convert
+    static final int MAX_PLAIN_INTEGER_DIGITS = 40;
+    static final int MAX_PLAIN_FRACTION_DIGITS = 20;
+
+    public static long parsePaisa(CharSequence text) {
+        if (text == null) {
+            return INVALID;
+        }
+        return parsePaisa(text, 0, text.length());
+    }
+
+    /**
+     * Parses {@code text[from, to)}, e.g. one cell of a line that is not split into Strings.
+     *
+     * @return The amount in paisa, or {@link #INVALID}
+     * @throws IndexOutOfBoundsException if the range is outside the text
+     */
+    public static long parsePaisa(CharSequence text, int from, int to) {
+        Objects.checkFromToIndex(from, to, text.length());
+        Scanner scanner = new Scanner();
+        for (int i = from; i < to; i++) {
+            if (!scanner.accept(text.charAt(i))) {
+                return INVALID;
+            }
+        }
+        return scanner.toPaisa();
+    }
+
+    /**
+     * Parses {@code chars[from, to)}.
+     *
+     * @return The amount in paisa, or {@link #INVALID}
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    public static long parsePaisa(char[] chars, int from, int to) {
+        Objects.checkFromToIndex(from, to, chars.length);
+        Scanner scanner = new Scanner();
+        for (int i = from; i < to; i++) {
+            if (!scanner.accept(chars[i])) {
+                return INVALID;
+            }
+        }
+        return scanner.toPaisa();
+    }
+
+    /**
+     * Parses the UTF-8 bytes {@code utf8[from, to)}. Malformed UTF-8 is invalid.
+     *
+     * @return The amount in paisa, or {@link #INVALID}
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    public static long parsePaisa(byte[] utf8, int from, int to) {
+        Objects.checkFromToIndex(from, to, utf8.length);
+        Scanner scanner = new Scanner();
+        int i = from;
+        while (i < to) {
+            int b = utf8[i] & 0xFF;
+            int c;
+            if (b < 0x80) {
+                c = b;
+                i++;
+            } else if (b >= 0xE0 && b < 0xF0 && i + 2 < to) {
+                c = decode(b, utf8[i + 1], utf8[i + 2]);
+                i += 3;
+            } else if (b >= 0xC0 && b < 0xE0 && i + 1 < to) {
+                c = decode(b, utf8[i + 1]);
+                i += 2;
+            } else {
+                return INVALID;
+            }
+
+            if (c < 0 || !scanner.accept((char) c)) {
+                return INVALID;
+            }
+        }
+        return scanner.toPaisa();
+    }
+
+    /**
+     * Parses the UTF-8 bytes between the absolute indexes {@code from} and {@code to} of a heap or direct
+     * buffer, leaving its position alone. Malformed UTF-8 is invalid.
+     *
+     * @return The amount in paisa, or {@link #INVALID}
+     * @throws IndexOutOfBoundsException if the range is outside the buffer's limit
+     */
+    public static long parsePaisa(ByteBuffer utf8, int from, int to) {
+        Objects.checkFromToIndex(from, to, utf8.limit());
+        Scanner scanner = new Scanner();
+        int i = from;
+        while (i < to) {
+            int b = utf8.get(i) & 0xFF;
+            int c;
+            if (b < 0x80) {
+                c = b;
+                i++;
+            } else if (b >= 0xE0 && b < 0xF0 && i + 2 < to) {
+                c = decode(b, utf8.get(i + 1), utf8.get(i + 2));
+                i += 3;
+            } else if (b >= 0xC0 && b < 0xE0 && i + 1 < to) {
+                c = decode(b, utf8.get(i + 1));
+                i += 2;
+            } else {
+                return INVALID;
+            }
+
+            if (c < 0 || !scanner.accept((char) c)) {
+                return INVALID;
+            }
+        }
+        return scanner.toPaisa();
+    }
+
+    /**
+     * Parses a spreadsheet column in one call, e.g. the amounts of an uploaded sheet.
+     *
+     * @param texts The cells to parse; null cells are invalid
+     * @param paisa Receives the amount of {@code texts[i]} at index i, or {@link #INVALID}
+     * @return The number of invalid cells
+     * @throws IllegalArgumentException if {@code paisa} is shorter than {@code texts}
+     */
+    public static int parseAll(CharSequence[] texts, long[] paisa) {
+        if (paisa.length < texts.length) {
+            throw new IllegalArgumentException("paisa has " + paisa.length + " slots for " + texts.length + " texts");
+        }
+
+        int invalid = 0;
+        for (int i = 0; i < texts.length; i++) {
+            paisa[i] = parsePaisa(texts[i]);
+            if (paisa[i] == INVALID) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Reads a plain decimal such as "-1234.567", for amounts this grammar does not take: more than two
+     * decimals, or beyond the long range of paisa. Only ASCII digits, a leading minus sign and one point are
+     * allowed; no exponent, no commas, no whitespace. At most {@link #MAX_PLAIN_INTEGER_DIGITS} whole digits
+     * and {@link #MAX_PLAIN_FRACTION_DIGITS} decimals are taken, so untrusted text cannot make the amount
+     * arbitrarily expensive to convert.
+     *
+     * @return The amount, or null if the text is not such a decimal
+     */
+    static BigDecimal parsePlainDecimal(CharSequence text) {
+        int length = text.length();
+        int i = length > 0 && text.charAt(0) == '-' ? 1 : 0;
+        int integerDigits = 0;
+        int fractionDigits = 0;
+        boolean inFraction = false;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '.' && !inFraction) {
+                inFraction = true;
+            } else if (c < NumberUtils.ENGLISH_ZERO_DIGIT || c > NumberUtils.ENGLISH_ZERO_DIGIT + 9) {
+                return null;
+            } else if (inFraction ? ++fractionDigits > MAX_PLAIN_FRACTION_DIGITS : ++integerDigits > MAX_PLAIN_INTEGER_DIGITS) {
+                return null;
+            }
+        }
+        return integerDigits + fractionDigits == 0 ? null : new BigDecimal(text.toString());
+    }
+
+    /**
+     * Decodes a two-byte UTF-8 sequence.
+     *
+     * @return The char, or -1 if the second byte is not a continuation byte or the sequence is overlong
+     */
+    private static int decode(int lead, byte second) {
+        if ((second & 0xC0) != 0x80) {
+            return -1;
+        }
+        int c = (lead & 0x1F) << 6 | second & 0x3F;
+        return c < 0x80 ? -1 : c;
+    }
+
+    /**
+     * Decodes a three-byte UTF-8 sequence.
+     *
+     * @return The char, or -1 if a trailing byte is not a continuation byte, the sequence is overlong or it
+     * encodes a surrogate
+     */
+    private static int decode(int lead, byte second, byte third) {
+        if ((second & 0xC0) != 0x80 || (third & 0xC0) != 0x80) {
+            return -1;
+        }
+        int c = (lead & 0x0F) << 12 | (second & 0x3F) << 6 | third & 0x3F;
+        return c < 0x800 || Character.isSurrogate((char) c) ? -1 : c;
+    }
+
+    /**
+     * The parse state of one amount, kept in primitives. The sizes of the comma separated groups after the
+     * first are packed one bit each (1 for three digits, 0 for two) so grouping can be checked at the end
+     * against both layouts without storing the text.
+     */
+    private static final class Scanner {
+        private static final int MAX_PACKED_GROUPS = Long.SIZE;
+
+        private long value;
+        private boolean negative;
+        private boolean started;
+        private boolean trailing;
+        private char zeroDigit;
+        private int digits;
+        private boolean inFraction;
+        private int fractionDigits;
+        private int commaCount;
+        private int firstGroup;
+        private int currentGroup;
+        private long innerGroups;
+
+        boolean accept(char c) {
+            if (trailing) {
+                return isWhitespace(c);
+            }
+
+            if (c >= NumberUtils.ENGLISH_ZERO_DIGIT && c <= NumberUtils.ENGLISH_ZERO_DIGIT + 9) {
+                return acceptDigit(c, NumberUtils.ENGLISH_ZERO_DIGIT);
+            }
+            if (c >= NumberUtils.BANGLA_ZERO_DIGIT && c <= NumberUtils.BANGLA_ZERO_DIGIT + 9) {
+                return acceptDigit(c, NumberUtils.BANGLA_ZERO_DIGIT);
+            }
+
+            switch (c) {
+                case ',':
+                    return acceptComma();
+                case '.':
+                    if (inFraction || commaCount > 0 && currentGroup == 0) {
+                        return false;
+                    }
+                    inFraction = true;
+                    started = true;
+                    return true;
+                case '-':
+                    if (started) {
+                        return false;
+                    }
+                    negative = true;
+                    started = true;
+                    return true;
+                default:
+                    if (!isWhitespace(c)) {
+                        return false;
+                    }
+                    trailing = started;
+                    return true;
+            }
+        }
+
+        private boolean acceptDigit(char c, char digitZero) {
+            if (zeroDigit == 0) {
+                zeroDigit = digitZero;
+            } else if (zeroDigit != digitZero) {
+                return false;
+            }
+            started = true;
+            digits++;
+
+            int digit = c - digitZero;
+            if (inFraction) {
+                if (++fractionDigits > 2) {
+                    return digit == 0;
+                }
+            } else {
+                currentGroup++;
+            }
+
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                return false;
+            }
+            value = value * 10 + digit;
+            return true;
+        }
+
+        private boolean acceptComma() {
+            if (inFraction || currentGroup == 0) {
+                return false;
+            }
+
+            if (commaCount == 0) {
+                firstGroup = currentGroup;
+            } else if ((currentGroup == 2 || currentGroup == 3) && commaCount <= MAX_PACKED_GROUPS) {
+                innerGroups = innerGroups << 1 | (currentGroup == 3 ? 1 : 0);
+            } else {
+                return false;
+            }
+            commaCount++;
+            currentGroup = 0;
+            started = true;
+            return true;
+        }
+
+        long toPaisa() {
+            if (digits == 0 || !isGroupingValid()) {
+                return INVALID;
+            }
+
+            long paisa = value;
+            for (int i = Math.min(fractionDigits, 2); i < 2; i++) {
+                if (paisa > Long.MAX_VALUE / 10) {
+                    return INVALID;
+                }
+                paisa *= 10;
+            }
+            return negative ? -paisa : paisa;
+        }
+
+        /**
+         * Checks the groups against 3, 3, 3 and against 3, 2, 2, which repeats from the right as 3, 2, 2, 3, 2, 2.
+         */
+        private boolean isGroupingValid() {
+            if (commaCount == 0) {
+                return true;
+            }
+            if (currentGroup != 3) {
+                return false;
+            }
+
+            int innerCount = commaCount - 1;
+            long allThree = innerCount == 0 ? 0 : -1L >>> (Long.SIZE - innerCount);
+            boolean western = innerGroups == allThree && firstGroup <= 3;
+
+            boolean bangla = firstGroup <= banglaGroupSize(commaCount);
+            for (int slot = 1; slot <= innerCount && bangla; slot++) {
+                boolean isThree = (innerGroups >>> (slot - 1) & 1) != 0;
+                bangla = isThree == (banglaGroupSize(slot) == 3);
+            }
+            return western || bangla;
+        }
+
+        /**
+         * The size of the group {@code slot} places left of the last three digits in 3, 2, 2 grouping.
+         */
+        private static int banglaGroupSize(int slot) {
+            return slot % 3 == 0 ? 3 : 2;
+        }
+
+        private static boolean isWhitespace(char c) {
+            return c == NO_BREAK_SPACE || Character.isWhitespace(c);
+        }
+    }
+}
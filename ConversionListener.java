@@ -0,0 +1,39 @@
+/**
+ * Receives timings and notable events from the conversions, for metrics or logging.
+ * Install one with {@link Instrumentation#setListener(ConversionListener)}; {@link ConversionMetrics} is the
+ * built-in implementation. Calls come from the converting threads, so implementations must be thread-safe
+ * and fast.
+ */
+public interface ConversionListener {
+    enum Operation {
+        /** Amount to words, e.g. {@link TkInWord#convertToTkInWordByLocale(java.math.BigDecimal, boolean)}. */
+        WORDS,
+        /** Comma separated money and numbers, e.g. {@link TkInWord#formatCommaSeperatedMoneyByLocale}. */
+        COMMA_SEPARATED,
+        /** {@link NumberUtils#englishToBanglaDigitConversion(String)}. */
+        DIGITS,
+        /** Date and time text, e.g. {@link DateUtils#getBanglaDate(java.time.LocalDate)}. */
+        DATE
+    }
+
+    enum Event {
+        /** The input was outside the fast path, e.g. beyond the long range, and took the slower general route. */
+        FALLBACK,
+        /** A {@link CachedConversions} lookup found the result. */
+        CACHE_HIT,
+        /** A {@link CachedConversions} lookup had to convert. */
+        CACHE_MISS
+    }
+
+    /**
+     * Called after each conversion.
+     *
+     * @param isBangla True for Bangla output; false for English or Western
+     * @param nanos    How long the conversion took
+     */
+    default void onConversion(Operation operation, boolean isBangla, long nanos) {
+    }
+
+    default void onEvent(Operation operation, boolean isBangla, Event event) {
+    }
+}
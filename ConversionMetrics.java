@@ -0,0 +1,212 @@
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ConversionListener} that counts conversions, fallbacks and cache lookups, and keeps a
+ * latency histogram, per operation and language. Counters are striped {@link LongAdder}s, so recording from
+ * many threads does not contend; the histogram has one power-of-two bucket per bit of the duration.
+ * <pre>
+ * ConversionMetrics metrics = new ConversionMetrics();
+ * Instrumentation.setListener(metrics);
+ * ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName("app:type=ConversionMetrics"));
+ * </pre>
+ */
+public class ConversionMetrics implements ConversionListener, ConversionMetricsMXBean {
+    private static final ConversionListener.Operation[] OPERATIONS = ConversionListener.Operation.values();
+    private static final int LANGUAGE_COUNT = 2;
+    private static final int BUCKET_COUNT = Long.SIZE;
+
+    private final Counters[] counters = new Counters[OPERATIONS.length * LANGUAGE_COUNT];
+
+    public ConversionMetrics() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new Counters();
+        }
+    }
+
+    @Override
+    public void onConversion(ConversionListener.Operation operation, boolean isBangla, long nanos) {
+        Counters target = countersFor(operation, isBangla);
+        target.count.increment();
+        target.totalNanos.add(nanos);
+        target.buckets[bucketOf(nanos)].increment();
+    }
+
+    @Override
+    public void onEvent(ConversionListener.Operation operation, boolean isBangla, ConversionListener.Event event) {
+        countersFor(operation, isBangla).events[event.ordinal()].increment();
+    }
+
+    /**
+     * Reads the current values. Each counter is read atomically, but conversions that finish while the
+     * snapshot is taken may be counted in some totals and not yet in others.
+     */
+    public Snapshot snapshot() {
+        Stats[] stats = new Stats[counters.length];
+        for (int i = 0; i < counters.length; i++) {
+            stats[i] = counters[i].read();
+        }
+        return new Snapshot(stats);
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        return snapshot().toMap();
+    }
+
+    @Override
+    public void reset() {
+        for (Counters target : counters) {
+            target.reset();
+        }
+    }
+
+    private Counters countersFor(ConversionListener.Operation operation, boolean isBangla) {
+        return counters[indexOf(operation, isBangla)];
+    }
+
+    private static int indexOf(ConversionListener.Operation operation, boolean isBangla) {
+        return operation.ordinal() * LANGUAGE_COUNT + (isBangla ? 1 : 0);
+    }
+
+    private static int bucketOf(long nanos) {
+        return nanos <= 0 ? 0 : BUCKET_COUNT - 1 - Long.numberOfLeadingZeros(nanos);
+    }
+
+    /**
+     * The values of every operation and language at one point in time.
+     */
+    public static final class Snapshot {
+        private final Stats[] stats;
+
+        private Snapshot(Stats[] stats) {
+            this.stats = stats;
+        }
+
+        public Stats get(ConversionListener.Operation operation, boolean isBangla) {
+            return stats[indexOf(operation, isBangla)];
+        }
+
+        /**
+         * Flattens the snapshot into keys such as {@code words.bangla.count} and {@code date.english.p99Nanos}.
+         */
+        public Map<String, Long> toMap() {
+            Map<String, Long> values = new LinkedHashMap<>();
+            for (ConversionListener.Operation operation : OPERATIONS) {
+                for (boolean isBangla : new boolean[]{true, false}) {
+                    Stats operationStats = get(operation, isBangla);
+                    String prefix = operation.name().toLowerCase(Locale.ROOT) + (isBangla ? ".bangla." : ".english.");
+                    values.put(prefix + "count", operationStats.getCount());
+                    values.put(prefix + "totalNanos", operationStats.getTotalNanos());
+                    values.put(prefix + "p50Nanos", operationStats.getPercentileNanos(50));
+                    values.put(prefix + "p99Nanos", operationStats.getPercentileNanos(99));
+                    for (ConversionListener.Event event : ConversionListener.Event.values()) {
+                        values.put(prefix + event.name().toLowerCase(Locale.ROOT), operationStats.getEventCount(event));
+                    }
+                }
+            }
+            return values;
+        }
+    }
+
+    /**
+     * The values of one operation and language.
+     */
+    public static final class Stats {
+        private final long count;
+        private final long totalNanos;
+        private final long[] buckets;
+        private final long[] events;
+
+        private Stats(long count, long totalNanos, long[] buckets, long[] events) {
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.buckets = buckets;
+            this.events = events;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMeanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+
+        public long getEventCount(ConversionListener.Event event) {
+            return events[event.ordinal()];
+        }
+
+        /**
+         * Returns the upper bound of the histogram bucket holding the given percentile, which is within a
+         * factor of two of the exact value.
+         *
+         * @param percentile Between 0 and 100, e.g. 99 for p99
+         * @return The duration in nanoseconds, or 0 if nothing was recorded
+         */
+        public long getPercentileNanos(double percentile) {
+            long total = 0;
+            for (long bucket : buckets) {
+                total += bucket;
+            }
+            if (total == 0) {
+                return 0;
+            }
+
+            long rank = (long) Math.ceil(total * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank && buckets[i] > 0) {
+                    return i == BUCKET_COUNT - 1 ? Long.MAX_VALUE : (2L << i) - 1;
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+        private final LongAdder[] events = new LongAdder[ConversionListener.Event.values().length];
+
+        Counters() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+            for (int i = 0; i < events.length; i++) {
+                events[i] = new LongAdder();
+            }
+        }
+
+        Stats read() {
+            long[] bucketCounts = new long[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                bucketCounts[i] = buckets[i].sum();
+            }
+            long[] eventCounts = new long[events.length];
+            for (int i = 0; i < events.length; i++) {
+                eventCounts[i] = events[i].sum();
+            }
+            return new Stats(count.sum(), totalNanos.sum(), bucketCounts, eventCounts);
+        }
+
+        void reset() {
+            count.reset();
+            totalNanos.reset();
+            for (LongAdder bucket : buckets) {
+                bucket.reset();
+            }
+            for (LongAdder event : events) {
+                event.reset();
+            }
+        }
+    }
+}
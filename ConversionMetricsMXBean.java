@@ -0,0 +1,13 @@
+import java.util.Map;
+
+/**
+ * The JMX view of {@link ConversionMetrics}.
+ */
+public interface ConversionMetricsMXBean {
+    /**
+     * @see ConversionMetrics.Snapshot#toMap()
+     */
+    Map<String, Long> getCounters();
+
+    void reset();
+}
@@ -0,0 +1,420 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An embeddable HTTP front for the conversions, so services in other languages can run it as a local
+ * sidecar instead of reimplementing them. Built on the JDK's {@code com.sun.net.httpserver}; each request
+ * runs on its own virtual thread when the JDK has them (21+), and on a cached thread pool otherwise.
+ * <p>
+ * Endpoints, each taking {@code lang=bn} (the default) or {@code lang=en}:
+ * <pre>
+ * GET  /words?value=1234.50      one amount in words
+ * GET  /comma?value=1234.50      one amount as comma separated money
+ * GET  /date?value=2026-10-18    one ISO date, or date-time such as 2026-10-18T15:42, as dd/MM/yyyy [hh:mm a]
+ * POST /words, /comma, /date     a batch, one value per line, or a JSON array with Content-Type: application/json
+ * </pre>
+ * Amounts may be plain ("1234.50", up to 40 whole digits and 20 decimals, no exponent) or comma separated
+ * in either digit script ("১,২৩৪.৫০").
+ * A single value that cannot be read gets 400. Batches are converted and streamed back as they are read,
+ * in the same layout and order, so memory stays flat however large they are; a value that cannot be read
+ * gets an empty line, or null in a JSON array.
+ * <pre>
+ * java -cp out ConversionServer [port]
+ * curl 'localhost:8080/words?value=1234.50&amp;lang=en'
+ * printf '1234.50\n99\n' | curl --data-binary @- localhost:8080/comma
+ * </pre>
+ * {@link #main(String[])} turns on TCP_NODELAY; without it every keep-alive response waits out the client's
+ * delayed ACK. {@link #start(InetSocketAddress)} changes no global settings, so an application embedding the
+ * server should start its JVM with {@code -Dsun.net.httpserver.nodelay=true}.
+ */
+public class ConversionServer {
+    public static final int DEFAULT_PORT = 8080;
+
+    private static final int STREAM_BUFFER_SIZE = 8_192;
+    private static final String TEXT_CONTENT_TYPE = "text/plain; charset=UTF-8";
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=UTF-8";
+    private static final Locale ENGLISH_LOCALE = Locale.ENGLISH;
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private ConversionServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts a server on {@code address}; port 0 picks a free port, see {@link #getAddress()}.
+     * Set {@code -Dsun.net.httpserver.nodelay=true} for low keep-alive latency, see above.
+     */
+    public static ConversionServer start(InetSocketAddress address) throws IOException {
+        HttpServer server = HttpServer.create(address, 0);
+        server.createContext("/words", new ConversionHandler("/words", ConversionServer::writeWords));
+        server.createContext("/comma", new ConversionHandler("/comma", ConversionServer::writeCommaSeparated));
+        server.createContext("/date", new ConversionHandler("/date", ConversionServer::writeDate));
+
+        ExecutorService executor = newRequestExecutor();
+        server.setExecutor(executor);
+        server.start();
+        return new ConversionServer(server, executor);
+    }
+
+    public static void main(String[] args) throws IOException {
+        // Without TCP_NODELAY every keep-alive response waits out the client's delayed ACK (about 40 ms)
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        ConversionServer server = start(new InetSocketAddress(port));
+        System.out.println("Conversion server listening on " + server.getAddress());
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Stops accepting requests, waits up to {@code delaySeconds} for running ones to finish, then stops.
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(delaySeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A virtual thread per request where the JDK has them, looked up reflectively so the class still
+     * compiles and runs on 17.
+     */
+    private static ExecutorService newRequestExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "conversion-server");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private static void writeWords(StringBuilder out, String value, boolean isBangla) {
+        TkInWord.appendTkInWordByLocale(out, parseAmount(value), isBangla);
+    }
+
+    private static void writeCommaSeparated(StringBuilder out, String value, boolean isBangla) {
+        TkInWord.appendCommaSeperatedMoneyByLocale(out, parseAmount(value), isBangla);
+    }
+
+    private static void writeDate(StringBuilder out, String value, boolean isBangla) {
+        Locale locale = isBangla ? DateUtils.BANGLA_LOCALE : ENGLISH_LOCALE;
+        if (value.indexOf('T') >= 0) {
+            DateRenderer.appendDateTime(out, LocalDateTime.parse(value), locale);
+        } else {
+            DateRenderer.appendDate(out, LocalDate.parse(value), locale);
+        }
+    }
+
+    /**
+     * Reads a plain amount of at most {@link CommaSeparatedParser#MAX_PLAIN_INTEGER_DIGITS} whole digits and
+     * {@link CommaSeparatedParser#MAX_PLAIN_FRACTION_DIGITS} decimals, or a comma separated one. Exponents
+     * are refused: "1E20000000" is a few bytes of query string but would take minutes or all of the heap
+     * to convert.
+     *
+     * @throws IllegalArgumentException if the value is neither a plain nor a comma separated amount
+     */
+    private static BigDecimal parseAmount(String value) {
+        BigDecimal amount = CommaSeparatedParser.parsePlainDecimal(value);
+        if (amount != null) {
+            return amount;
+        }
+        long paisa = CommaSeparatedParser.parsePaisa(value);
+        if (paisa == CommaSeparatedParser.INVALID) {
+            throw new IllegalArgumentException("Not an amount: " + value);
+        }
+        return BigDecimal.valueOf(paisa, 2);
+    }
+
+    /**
+     * Writes the conversion of one trimmed, non-empty value.
+     *
+     * @throws RuntimeException if the value cannot be read
+     */
+    private interface Conversion {
+        void write(StringBuilder out, String value, boolean isBangla);
+    }
+
+    private static final class ConversionHandler implements HttpHandler {
+        private final String path;
+        private final Conversion conversion;
+
+        ConversionHandler(String path, Conversion conversion) {
+            this.path = path;
+            this.conversion = conversion;
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try (exchange) {
+                if (!exchange.getRequestURI().getPath().equals(path)) {
+                    sendError(exchange, 404, "Not found");
+                    return;
+                }
+
+                String query = exchange.getRequestURI().getRawQuery();
+                boolean isBangla = !"en".equals(queryParameter(query, "lang"));
+                switch (exchange.getRequestMethod()) {
+                    case "GET" -> convertOne(exchange, queryParameter(query, "value"), isBangla);
+                    case "POST" -> {
+                        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+                        if (contentType != null && contentType.contains("json")) {
+                            convertJsonArray(exchange, isBangla);
+                        } else {
+                            convertLines(exchange, isBangla);
+                        }
+                    }
+                    default -> {
+                        exchange.getResponseHeaders().set("Allow", "GET, POST");
+                        sendError(exchange, 405, "Method not allowed");
+                    }
+                }
+            }
+        }
+
+        private void convertOne(HttpExchange exchange, String value, boolean isBangla) throws IOException {
+            StringBuilder result = new StringBuilder();
+            if (!convert(result, value, isBangla)) {
+                sendError(exchange, 400, "Missing or invalid value");
+                return;
+            }
+
+            byte[] body = result.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", TEXT_CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+
+        private void convertLines(HttpExchange exchange, boolean isBangla) throws IOException {
+            BufferedReader in = new BufferedReader(new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8), STREAM_BUFFER_SIZE);
+            exchange.getResponseHeaders().set("Content-Type", TEXT_CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, 0);
+
+            Writer out = openResponse(exchange);
+            StringBuilder result = new StringBuilder();
+            for (String line = in.readLine(); line != null; line = in.readLine()) {
+                result.setLength(0);
+                convert(result, line, isBangla);
+                out.append(result).append('\n');
+            }
+            out.flush();
+        }
+
+        private void convertJsonArray(HttpExchange exchange, boolean isBangla) throws IOException {
+            JsonArrayReader in = new JsonArrayReader(new BufferedReader(new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8), STREAM_BUFFER_SIZE));
+            if (!in.begin()) {
+                sendError(exchange, 400, "Expected a JSON array");
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, 0);
+
+            // A malformed element after the response has started can only end the array early
+            Writer out = openResponse(exchange);
+            StringBuilder result = new StringBuilder();
+            out.append('[');
+            boolean first = true;
+            while (in.hasNext()) {
+                String value = in.next();
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+
+                result.setLength(0);
+                if (convert(result, value, isBangla)) {
+                    writeJsonString(out, result);
+                } else {
+                    out.append("null");
+                }
+            }
+            out.append(']');
+            out.flush();
+        }
+
+        /**
+         * @return False, with nothing written, if the value is missing or cannot be read
+         */
+        private boolean convert(StringBuilder out, String value, boolean isBangla) {
+            if (value == null || value.isBlank()) {
+                return false;
+            }
+            try {
+                conversion.write(out, value.strip(), isBangla);
+                return true;
+            } catch (RuntimeException e) {
+                out.setLength(0);
+                return false;
+            }
+        }
+
+        private static Writer openResponse(HttpExchange exchange) {
+            return new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8), STREAM_BUFFER_SIZE);
+        }
+
+        private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+            byte[] body = (message + '\n').getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", TEXT_CONTENT_TYPE);
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+        }
+
+        private static String queryParameter(String rawQuery, String name) {
+            if (rawQuery == null) {
+                return null;
+            }
+            for (String parameter : rawQuery.split("&")) {
+                int equals = parameter.indexOf('=');
+                String key = equals < 0 ? parameter : parameter.substring(0, equals);
+                if (URLDecoder.decode(key, StandardCharsets.UTF_8).equals(name)) {
+                    return equals < 0 ? "" : URLDecoder.decode(parameter.substring(equals + 1), StandardCharsets.UTF_8);
+                }
+            }
+            return null;
+        }
+
+        private static void writeJsonString(Writer out, CharSequence text) throws IOException {
+            out.append('"');
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"' || c == '\\') {
+                    out.append('\\').append(c);
+                } else if (c < 0x20) {
+                    out.append(String.format("\\u%04x", (int) c));
+                } else {
+                    out.append(c);
+                }
+            }
+            out.append('"');
+        }
+    }
+
+    /**
+     * Reads the elements of a flat JSON array one at a time without holding the whole array. Strings are
+     * unescaped, numbers and literals are returned as written, and null is returned as null.
+     */
+    private static final class JsonArrayReader {
+        private final Reader in;
+        private int next;
+        private boolean done;
+
+        JsonArrayReader(Reader in) {
+            this.in = in;
+        }
+
+        /**
+         * Consumes the opening bracket.
+         *
+         * @return False if the body does not start with a JSON array
+         */
+        boolean begin() throws IOException {
+            next = skipWhitespace(in.read());
+            if (next != '[') {
+                return false;
+            }
+            next = skipWhitespace(in.read());
+            done = next == ']';
+            return true;
+        }
+
+        boolean hasNext() {
+            return !done && next != -1;
+        }
+
+        String next() throws IOException {
+            String value = next == '"' ? readString() : readLiteral();
+            next = skipWhitespace(next);
+            if (next == ',') {
+                next = skipWhitespace(in.read());
+            } else {
+                done = true;
+            }
+            return value;
+        }
+
+        private String readString() throws IOException {
+            StringBuilder value = new StringBuilder();
+            for (int c = in.read(); c != '"'; c = in.read()) {
+                if (c == -1) {
+                    throw new IOException("Unterminated JSON string");
+                }
+                if (c == '\\') {
+                    c = in.read();
+                    switch (c) {
+                        case 'b' -> value.append('\b');
+                        case 'f' -> value.append('\f');
+                        case 'n' -> value.append('\n');
+                        case 'r' -> value.append('\r');
+                        case 't' -> value.append('\t');
+                        case 'u' -> {
+                            char[] hex = new char[4];
+                            for (int i = 0; i < hex.length; i++) {
+                                hex[i] = (char) in.read();
+                            }
+                            value.append((char) Integer.parseInt(new String(hex), 16));
+                        }
+                        default -> value.append((char) c);
+                    }
+                } else {
+                    value.append((char) c);
+                }
+            }
+            next = in.read();
+            return value.toString();
+        }
+
+        private String readLiteral() throws IOException {
+            StringBuilder value = new StringBuilder();
+            int c = next;
+            while (c != -1 && c != ',' && c != ']' && !Character.isWhitespace(c)) {
+                value.append((char) c);
+                c = in.read();
+            }
+            next = c;
+            String literal = value.toString();
+            return literal.equals("null") ? null : literal;
+        }
+
+        private int skipWhitespace(int c) throws IOException {
+            while (c != -1 && Character.isWhitespace(c)) {
+                c = in.read();
+            }
+            return c;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Stream integration for reporting pipelines. The collectors render every element straight into the joined
+ * document, and the mapping methods give each split of the stream its own scratch buffers. Either way there
+ * is nothing shared between threads, so {@code .parallel()} pipelines scale without locking and without the
+ * per-element buffers of the static methods.
+ * <pre>
+ * String report = amounts.parallelStream().collect(ConversionStreams.joiningWords(true, "\n"));
+ * List&lt;String&gt; dates = ConversionStreams.mapToBanglaDate(rows.stream().map(Row::date)).collect(toList());
+ * </pre>
+ */
+public class ConversionStreams {
+    private static final Collector.Characteristics[] NONE = {};
+
+    /**
+     * Joins the amounts in words, as {@link TkInWord#convertToTkInWordByLocale(BigDecimal, boolean)} writes them.
+     * Null amounts are skipped.
+     *
+     * @param delimiter Written between two amounts, e.g. "\n"
+     */
+    public static Collector<BigDecimal, ?, String> joiningWords(boolean isBangla, CharSequence delimiter) {
+        return Collector.of(() -> new Joiner(delimiter, TkConverter.byLocale(isBangla)),
+                Joiner::addWords, Joiner::merge, Joiner::toString, NONE);
+    }
+
+    /**
+     * Joins the amounts as comma separated money, as
+     * {@link TkInWord#formatCommaSeperatedMoneyByLocale(BigDecimal, boolean)} writes them. Null amounts are skipped.
+     *
+     * @param delimiter Written between two amounts, e.g. "\n"
+     */
+    public static Collector<BigDecimal, ?, String> joiningMoney(boolean isBangla, CharSequence delimiter) {
+        return Collector.of(() -> new Joiner(delimiter, TkConverter.byLocale(isBangla)),
+                Joiner::addMoney, Joiner::merge, Joiner::toString, NONE);
+    }
+
+    /**
+     * Joins the dates in Bangla, as {@link DateUtils#getBanglaDate(LocalDate)} writes them. Null dates are skipped.
+     *
+     * @param delimiter Written between two dates, e.g. ", "
+     */
+    public static Collector<LocalDate, ?, String> joiningBanglaDates(CharSequence delimiter) {
+        return Collector.of(() -> new Joiner(delimiter, null),
+                Joiner::addBanglaDate, Joiner::merge, Joiner::toString, NONE);
+    }
+
+    /**
+     * Maps each amount to {@link TkInWord#convertToTkInWordByLocale(BigDecimal, boolean)}, with one
+     * {@link TkConverter} per split of the stream.
+     */
+    public static Stream<String> mapToWords(Stream<BigDecimal> amounts, boolean isBangla) {
+        return mapWithScratch(amounts, () -> TkConverter.byLocale(isBangla)::toWords);
+    }
+
+    /**
+     * Maps each amount to {@link TkInWord#formatCommaSeperatedMoneyByLocale(BigDecimal, boolean)}, with one
+     * {@link TkConverter} per split of the stream.
+     */
+    public static Stream<String> mapToMoney(Stream<BigDecimal> amounts, boolean isBangla) {
+        return mapWithScratch(amounts, () -> TkConverter.byLocale(isBangla)::formatMoney);
+    }
+
+    /**
+     * Maps each date to {@link DateUtils#getBanglaDate(LocalDate)}, with one render buffer per split of the stream.
+     */
+    public static Stream<String> mapToBanglaDate(Stream<LocalDate> dates) {
+        return mapWithScratch(dates, BanglaDateMapper::new);
+    }
+
+    /**
+     * Maps a stream with a function that may keep scratch state, such as a {@link TkConverter}. The stream's
+     * spliterator asks {@code perSplit} for a new function for every split it hands out, and each split is
+     * only ever traversed by one thread at a time, so the function needs no synchronization. The mapped
+     * stream stays lazy and keeps the source's order, size and parallelism; closing it closes the source.
+     *
+     * @param perSplit Creates the function for one split, e.g. {@code () -> TkConverter.of(format, mode)::toWords}
+     */
+    public static <T, R> Stream<R> mapWithScratch(Stream<T> source, Supplier<? extends Function<? super T, ? extends R>> perSplit) {
+        ScratchSpliterator<T, R> spliterator = new ScratchSpliterator<>(source.spliterator(), perSplit);
+        return StreamSupport.stream(spliterator, source.isParallel()).onClose(source::close);
+    }
+
+    /**
+     * The mutable container of the joining collectors: the document so far plus the scratch state that
+     * renders into it. Each split of a parallel stream gets its own, and they are concatenated in order.
+     */
+    private static final class Joiner {
+        private final CharSequence delimiter;
+        private final TkConverter converter;
+        private final StringBuilder document = new StringBuilder();
+        private char[] dateBuffer;
+        private boolean isEmpty = true;
+
+        Joiner(CharSequence delimiter, TkConverter converter) {
+            this.delimiter = delimiter;
+            this.converter = converter;
+        }
+
+        void addWords(BigDecimal amount) {
+            if (amount != null) {
+                converter.appendWords(delimit(), amount);
+            }
+        }
+
+        void addMoney(BigDecimal amount) {
+            if (amount != null) {
+                converter.appendMoney(delimit(), amount);
+            }
+        }
+
+        void addBanglaDate(LocalDate date) {
+            if (date == null) {
+                return;
+            }
+            if (dateBuffer == null) {
+                dateBuffer = new char[DateRenderer.MAX_DATE_TIME_LENGTH];
+            }
+            int end = DateRenderer.renderDate(dateBuffer, 0, date, DateUtils.BANGLA_LOCALE);
+            delimit().append(dateBuffer, 0, end);
+        }
+
+        Joiner merge(Joiner other) {
+            if (other.isEmpty) {
+                return this;
+            }
+            if (isEmpty) {
+                return other;
+            }
+            document.append(delimiter).append(other.document);
+            return this;
+        }
+
+        private StringBuilder delimit() {
+            if (isEmpty) {
+                isEmpty = false;
+            } else {
+                document.append(delimiter);
+            }
+            return document;
+        }
+
+        @Override
+        public String toString() {
+            return document.toString();
+        }
+    }
+
+    private static final class BanglaDateMapper implements Function<LocalDate, String> {
+        private final char[] buffer = new char[DateRenderer.MAX_DATE_TIME_LENGTH];
+
+        @Override
+        public String apply(LocalDate date) {
+            if (date == null) {
+                return null;
+            }
+            long start = Instrumentation.start();
+            String formatted = new String(buffer, 0, DateRenderer.renderDate(buffer, 0, date, DateUtils.BANGLA_LOCALE));
+            Instrumentation.record(ConversionListener.Operation.DATE, true, start);
+            return formatted;
+        }
+    }
+
+    /**
+     * Maps the elements of a source spliterator with a function created lazily for this split alone. It is its
+     * own consumer of the source, so traversal allocates nothing per element.
+     */
+    private static final class ScratchSpliterator<T, R> implements Spliterator<R>, Consumer<T> {
+        private static final int DROPPED_CHARACTERISTICS = SORTED | DISTINCT | NONNULL;
+
+        private final Spliterator<T> source;
+        private final Supplier<? extends Function<? super T, ? extends R>> perSplit;
+        private Function<? super T, ? extends R> mapper;
+        private Consumer<? super R> action;
+
+        ScratchSpliterator(Spliterator<T> source, Supplier<? extends Function<? super T, ? extends R>> perSplit) {
+            this.source = source;
+            this.perSplit = perSplit;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            bind(action);
+            return source.tryAdvance(this);
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            bind(action);
+            source.forEachRemaining(this);
+        }
+
+        @Override
+        public void accept(T element) {
+            action.accept(mapper.apply(element));
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            Spliterator<T> prefix = source.trySplit();
+            return prefix == null ? null : new ScratchSpliterator<>(prefix, perSplit);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return source.getExactSizeIfKnown();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & ~DROPPED_CHARACTERISTICS;
+        }
+
+        private void bind(Consumer<? super R> action) {
+            if (mapper == null) {
+                mapper = perSplit.get();
+            }
+            this.action = action;
+        }
+    }
+}
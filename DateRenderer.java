@@ -0,0 +1,318 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DecimalStyle;
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Renders the fixed {@code dd/MM/yyyy}, {@code hh:mm a} and {@code hh:mm} patterns that {@link DateUtils}
+ * uses, writing the locale's digits straight from the date and time fields instead of going through
+ * {@link java.time.format.DateTimeFormatter}. The output is identical to the formatter's.
+ * <p>
+ * The day period text and zero digit of each locale are read once from the formatter itself. Locales with
+ * Unicode extensions (which may switch calendar or numbering system) and years outside 1-9999 are handed
+ * to the formatter.
+ */
+public class DateRenderer {
+    /**
+     * Longest output of {@link #renderDateTime}, leaving generous room for the day period text.
+     */
+    public static final int MAX_DATE_TIME_LENGTH = 64;
+
+    static final String DATE_PATTERN = "dd/MM/yyyy";
+    private static final String TIME_PATTERN = "hh:mm a";
+    private static final String TIME_WITHOUT_MARKER_PATTERN = "hh:mm";
+    private static final String DATE_TIME_PATTERN = "dd/MM/yyyy hh:mm a";
+    private static final int DATE_LENGTH = 10;
+    private static final int TIME_WITHOUT_MARKER_LENGTH = 5;
+    private static final int MAX_DAY_PERIOD_LENGTH = MAX_DATE_TIME_LENGTH - DATE_LENGTH - TIME_WITHOUT_MARKER_LENGTH - 2;
+
+    private static final LocaleSymbols UNSUPPORTED = new LocaleSymbols('0', "", "");
+    private static final ConcurrentMap<Locale, LocaleSymbols> SYMBOLS = new ConcurrentHashMap<>();
+
+    public static String formatDate(LocalDate localDate, Locale locale) {
+        long start = Instrumentation.start();
+        char[] buffer = new char[MAX_DATE_TIME_LENGTH];
+        String formatted = new String(buffer, 0, renderDate(buffer, 0, localDate, locale));
+        Instrumentation.record(ConversionListener.Operation.DATE, isBangla(locale), start);
+        return formatted;
+    }
+
+    public static String formatTime(LocalTime localTime, Locale locale) {
+        long start = Instrumentation.start();
+        char[] buffer = new char[MAX_DATE_TIME_LENGTH];
+        String formatted = new String(buffer, 0, renderTime(buffer, 0, localTime, locale));
+        Instrumentation.record(ConversionListener.Operation.DATE, isBangla(locale), start);
+        return formatted;
+    }
+
+    public static String formatTimeWithoutMarker(LocalTime localTime, Locale locale) {
+        long start = Instrumentation.start();
+        char[] buffer = new char[MAX_DATE_TIME_LENGTH];
+        String formatted = new String(buffer, 0, renderTimeWithoutMarker(buffer, 0, localTime, locale));
+        Instrumentation.record(ConversionListener.Operation.DATE, isBangla(locale), start);
+        return formatted;
+    }
+
+    public static String formatDateTime(LocalDateTime localDateTime, Locale locale) {
+        long start = Instrumentation.start();
+        char[] buffer = new char[MAX_DATE_TIME_LENGTH];
+        String formatted = new String(buffer, 0, renderDateTime(buffer, 0, localDateTime, locale));
+        Instrumentation.record(ConversionListener.Operation.DATE, isBangla(locale), start);
+        return formatted;
+    }
+
+    /**
+     * Writes {@code dd/MM/yyyy} into a caller-owned buffer, so a loop can reuse one buffer for every row.
+     *
+     * @param buffer The buffer to write into; needs {@link #MAX_DATE_TIME_LENGTH} chars free from {@code offset}
+     * @param offset Where to start writing
+     * @return The offset just past the last char written
+     */
+    public static int renderDate(char[] buffer, int offset, LocalDate localDate, Locale locale) {
+        LocaleSymbols symbols = symbolsFor(locale);
+        if (symbols == UNSUPPORTED || !isSupportedYear(localDate.getYear())) {
+            return renderWithFormatter(buffer, offset, localDate, DATE_PATTERN, locale);
+        }
+        return writeDate(buffer, offset, localDate, symbols.zeroDigit);
+    }
+
+    /**
+     * Writes {@code hh:mm a} into a caller-owned buffer.
+     *
+     * @return The offset just past the last char written
+     * @see #renderDate(char[], int, LocalDate, Locale)
+     */
+    public static int renderTime(char[] buffer, int offset, LocalTime localTime, Locale locale) {
+        LocaleSymbols symbols = symbolsFor(locale);
+        if (symbols == UNSUPPORTED) {
+            return renderWithFormatter(buffer, offset, localTime, TIME_PATTERN, locale);
+        }
+        return writeTime(buffer, offset, localTime, symbols);
+    }
+
+    /**
+     * Writes {@code hh:mm} into a caller-owned buffer.
+     *
+     * @return The offset just past the last char written
+     * @see #renderDate(char[], int, LocalDate, Locale)
+     */
+    public static int renderTimeWithoutMarker(char[] buffer, int offset, LocalTime localTime, Locale locale) {
+        LocaleSymbols symbols = symbolsFor(locale);
+        if (symbols == UNSUPPORTED) {
+            return renderWithFormatter(buffer, offset, localTime, TIME_WITHOUT_MARKER_PATTERN, locale);
+        }
+        return writeTimeWithoutMarker(buffer, offset, localTime, symbols.zeroDigit);
+    }
+
+    /**
+     * Writes {@code dd/MM/yyyy hh:mm a} into a caller-owned buffer.
+     *
+     * @return The offset just past the last char written
+     * @see #renderDate(char[], int, LocalDate, Locale)
+     */
+    public static int renderDateTime(char[] buffer, int offset, LocalDateTime localDateTime, Locale locale) {
+        LocaleSymbols symbols = symbolsFor(locale);
+        if (symbols == UNSUPPORTED || !isSupportedYear(localDateTime.getYear())) {
+            return renderWithFormatter(buffer, offset, localDateTime, DATE_TIME_PATTERN, locale);
+        }
+        int position = writeDate(buffer, offset, localDateTime.toLocalDate(), symbols.zeroDigit);
+        buffer[position++] = ' ';
+        return writeTime(buffer, position, localDateTime.toLocalTime(), symbols);
+    }
+
+    /**
+     * Writes {@code dd/MM/yyyy} into {@code out}.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendDate(A out, LocalDate localDate, Locale locale) {
+        char[] buffer = new char[MAX_DATE_TIME_LENGTH];
+        return append(out, buffer, renderDate(buffer, 0, localDate, locale));
+    }
+
+    /**
+     * Writes {@code hh:mm a} into {@code out}.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendTime(A out, LocalTime localTime, Locale locale) {
+        char[] buffer = new char[MAX_DATE_TIME_LENGTH];
+        return append(out, buffer, renderTime(buffer, 0, localTime, locale));
+    }
+
+    /**
+     * Writes {@code hh:mm} into {@code out}.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendTimeWithoutMarker(A out, LocalTime localTime, Locale locale) {
+        char[] buffer = new char[MAX_DATE_TIME_LENGTH];
+        return append(out, buffer, renderTimeWithoutMarker(buffer, 0, localTime, locale));
+    }
+
+    /**
+     * Writes {@code dd/MM/yyyy hh:mm a} into {@code out}.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendDateTime(A out, LocalDateTime localDateTime, Locale locale) {
+        char[] buffer = new char[MAX_DATE_TIME_LENGTH];
+        return append(out, buffer, renderDateTime(buffer, 0, localDateTime, locale));
+    }
+
+    /**
+     * Writes {@code dd/MM/yyyy} into {@code out} as UTF-8.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room
+     */
+    public static ByteBuffer encodeDate(ByteBuffer out, LocalDate localDate, Locale locale) {
+        char[] buffer = new char[MAX_DATE_TIME_LENGTH];
+        Utf8.put(out, buffer, 0, renderDate(buffer, 0, localDate, locale));
+        return out;
+    }
+
+    /**
+     * Writes {@code hh:mm a} into {@code out} as UTF-8.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room
+     */
+    public static ByteBuffer encodeTime(ByteBuffer out, LocalTime localTime, Locale locale) {
+        char[] buffer = new char[MAX_DATE_TIME_LENGTH];
+        Utf8.put(out, buffer, 0, renderTime(buffer, 0, localTime, locale));
+        return out;
+    }
+
+    /**
+     * Writes {@code hh:mm} into {@code out} as UTF-8.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room
+     */
+    public static ByteBuffer encodeTimeWithoutMarker(ByteBuffer out, LocalTime localTime, Locale locale) {
+        char[] buffer = new char[MAX_DATE_TIME_LENGTH];
+        Utf8.put(out, buffer, 0, renderTimeWithoutMarker(buffer, 0, localTime, locale));
+        return out;
+    }
+
+    /**
+     * Writes {@code dd/MM/yyyy hh:mm a} into {@code out} as UTF-8.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room
+     */
+    public static ByteBuffer encodeDateTime(ByteBuffer out, LocalDateTime localDateTime, Locale locale) {
+        char[] buffer = new char[MAX_DATE_TIME_LENGTH];
+        Utf8.put(out, buffer, 0, renderDateTime(buffer, 0, localDateTime, locale));
+        return out;
+    }
+
+    private static int writeDate(char[] buffer, int position, LocalDate localDate, char zeroDigit) {
+        position = writeTwoDigits(buffer, position, localDate.getDayOfMonth(), zeroDigit);
+        buffer[position++] = '/';
+        position = writeTwoDigits(buffer, position, localDate.getMonthValue(), zeroDigit);
+        buffer[position++] = '/';
+        int year = localDate.getYear();
+        position = writeTwoDigits(buffer, position, year / 100, zeroDigit);
+        return writeTwoDigits(buffer, position, year % 100, zeroDigit);
+    }
+
+    private static int writeTime(char[] buffer, int position, LocalTime localTime, LocaleSymbols symbols) {
+        position = writeTimeWithoutMarker(buffer, position, localTime, symbols.zeroDigit);
+        buffer[position++] = ' ';
+        String dayPeriod = localTime.getHour() < 12 ? symbols.am : symbols.pm;
+        dayPeriod.getChars(0, dayPeriod.length(), buffer, position);
+        return position + dayPeriod.length();
+    }
+
+    private static int writeTimeWithoutMarker(char[] buffer, int position, LocalTime localTime, char zeroDigit) {
+        int clockHour = localTime.getHour() % 12;
+        position = writeTwoDigits(buffer, position, clockHour == 0 ? 12 : clockHour, zeroDigit);
+        buffer[position++] = ':';
+        return writeTwoDigits(buffer, position, localTime.getMinute(), zeroDigit);
+    }
+
+    private static int writeTwoDigits(char[] buffer, int position, int value, char zeroDigit) {
+        buffer[position] = (char) (zeroDigit + value / 10);
+        buffer[position + 1] = (char) (zeroDigit + value % 10);
+        return position + 2;
+    }
+
+    private static boolean isBangla(Locale locale) {
+        return "bn".equals(locale.getLanguage());
+    }
+
+    private static boolean isSupportedYear(int year) {
+        return year >= 1 && year <= 9999;
+    }
+
+    private static int renderWithFormatter(char[] buffer, int offset, TemporalAccessor temporal, String pattern, Locale locale) {
+        Instrumentation.event(ConversionListener.Operation.DATE, isBangla(locale), ConversionListener.Event.FALLBACK);
+        String formatted = DateUtils.getFormatter(pattern, locale).format(temporal);
+        formatted.getChars(0, formatted.length(), buffer, offset);
+        return offset + formatted.length();
+    }
+
+    private static <A extends Appendable> A append(A out, char[] buffer, int length) {
+        try {
+            if (out instanceof StringBuilder) {
+                ((StringBuilder) out).append(buffer, 0, length);
+            } else {
+                for (int i = 0; i < length; i++) {
+                    out.append(buffer[i]);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    private static LocaleSymbols symbolsFor(Locale locale) {
+        LocaleSymbols symbols = SYMBOLS.get(locale);
+        if (symbols == null) {
+            symbols = SYMBOLS.computeIfAbsent(locale, DateRenderer::createSymbols);
+        }
+        return symbols;
+    }
+
+    /**
+     * Reads the zero digit and the AM/PM text the way the cached formatters print them.
+     */
+    private static LocaleSymbols createSymbols(Locale locale) {
+        if (!locale.getUnicodeLocaleKeys().isEmpty()) {
+            return UNSUPPORTED;
+        }
+
+        String am = DateUtils.getFormatter("a", locale).format(LocalTime.MIDNIGHT);
+        String pm = DateUtils.getFormatter("a", locale).format(LocalTime.NOON);
+        if (am.length() > MAX_DAY_PERIOD_LENGTH || pm.length() > MAX_DAY_PERIOD_LENGTH) {
+            return UNSUPPORTED;
+        }
+        return new LocaleSymbols(DecimalStyle.of(locale).getZeroDigit(), am, pm);
+    }
+
+    private static final class LocaleSymbols {
+        private final char zeroDigit;
+        private final String am;
+        private final String pm;
+
+        LocaleSymbols(char zeroDigit, String am, String pm) {
+            this.zeroDigit = zeroDigit;
+            this.am = am;
+            this.pm = pm;
+        }
+    }
+}
@@ -1,21 +1,142 @@
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DecimalStyle;
+import java.util.Arrays;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class DateUtils {
+    private static final ConcurrentMap<String, ConcurrentMap<Locale, DateTimeFormatter>> FORMATTERS = new ConcurrentHashMap<>();
+
+    public static final Locale BANGLA_LOCALE = new Locale.Builder().setLanguage("bn").build();
+
+    private static final String DAY_OF_MONTH_PATTERN = "dd";
+    private static final String MONTH_VALUE_PATTERN = "MM";
+    private static final String YEAR_PATTERN = "yyyy";
+
+    private static final DateTimeFormatter BANGLA_DAY_OF_MONTH_FORMATTER = getFormatter(DAY_OF_MONTH_PATTERN, BANGLA_LOCALE);
+    private static final DateTimeFormatter BANGLA_MONTH_VALUE_FORMATTER = getFormatter(MONTH_VALUE_PATTERN, BANGLA_LOCALE);
+    private static final DateTimeFormatter BANGLA_YEAR_FORMATTER = getFormatter(YEAR_PATTERN, BANGLA_LOCALE);
+
+    /**
+     * Returns the formatter for a pattern localized to {@code locale}, with the locale's digits.
+     * Formatters are built once per (pattern, locale) and shared, since DateTimeFormatter is immutable
+     * and thread-safe; keep the set of patterns passed here bounded.
+     *
+     * @param pattern A {@link DateTimeFormatter#ofPattern(String)} pattern, e.g. "dd MMM yyyy"
+     * @param locale  The locale to localize the text and digits for
+     * @return The shared formatter
+     */
+    public static DateTimeFormatter getFormatter(String pattern, Locale locale) {
+        ConcurrentMap<Locale, DateTimeFormatter> formattersByLocale = FORMATTERS.get(pattern);
+        if (formattersByLocale == null) {
+            formattersByLocale = FORMATTERS.computeIfAbsent(pattern, key -> new ConcurrentHashMap<>());
+        }
+
+        DateTimeFormatter formatter = formattersByLocale.get(locale);
+        if (formatter == null) {
+            formatter = formattersByLocale.computeIfAbsent(locale, key -> DateTimeFormatter.ofPattern(pattern)
+                    .localizedBy(key)
+                    .withDecimalStyle(DecimalStyle.of(key)));
+        }
+        return formatter;
+    }
+
+    /**
+     * Formats a column of dates given as epoch days, filling {@code out} index by index. Each distinct day
+     * is formatted once and shared by every row that repeats it, so a statement of many rows over a few
+     * hundred days costs a few hundred formats.
+     *
+     * @param epochDays Days since 1970-01-01, as from {@link LocalDate#toEpochDay()}
+     * @param pattern   A {@link DateTimeFormatter#ofPattern(String)} pattern; "dd/MM/yyyy" is written the way
+     *                  {@link #getLocalizedDate(LocalDate, Locale)} writes it
+     * @param out       Receives the date for {@code epochDays[i]} at index {@code i}; must be at least as long as {@code epochDays}
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code epochDays}; nothing is written then
+     */
+    public static void formatAll(long[] epochDays, String pattern, Locale locale, String[] out) {
+        checkOutputLength(out, epochDays.length);
+        if (epochDays.length == 0) {
+            return;
+        }
+        EpochDayCache<String> cache = cacheFor(epochDays);
+        DateTimeFormatter formatter = formatterFor(pattern, locale);
+        for (int i = 0; i < epochDays.length; i++) {
+            out[i] = format(cache, epochDays[i], formatter, locale);
+        }
+    }
+
+    /**
+     * Formats a column of dates, filling {@code out} index by index; a null date gives a null entry.
+     *
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code dates}; nothing is written then
+     * @see #formatAll(long[], String, Locale, String[])
+     */
+    public static void formatAll(LocalDate[] dates, String pattern, Locale locale, String[] out) {
+        checkOutputLength(out, dates.length);
+        long firstDay = Long.MAX_VALUE;
+        long lastDay = Long.MIN_VALUE;
+        for (LocalDate date : dates) {
+            if (date != null) {
+                firstDay = Math.min(firstDay, date.toEpochDay());
+                lastDay = Math.max(lastDay, date.toEpochDay());
+            }
+        }
+        if (firstDay > lastDay) {
+            Arrays.fill(out, 0, dates.length, null);
+            return;
+        }
+
+        EpochDayCache<String> cache = new EpochDayCache<>(firstDay, lastDay);
+        DateTimeFormatter formatter = formatterFor(pattern, locale);
+        for (int i = 0; i < dates.length; i++) {
+            out[i] = dates[i] == null ? null : format(cache, dates[i].toEpochDay(), formatter, locale);
+        }
+    }
+
+    /**
+     * Writes a column of dates given as epoch days into {@code out} as UTF-8, each followed by
+     * {@code separator}. Each distinct day is formatted and encoded once.
+     *
+     * @param separator Written after every date, e.g. "\n"
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room; its position is then put back
+     *                                          where it was, so no partial column is left behind
+     * @see #formatAll(long[], String, Locale, String[])
+     */
+    public static ByteBuffer encodeAll(ByteBuffer out, long[] epochDays, String pattern, Locale locale, String separator) {
+        if (epochDays.length == 0) {
+            return out;
+        }
+        EpochDayCache<byte[]> cache = cacheFor(epochDays);
+        DateTimeFormatter formatter = formatterFor(pattern, locale);
+        byte[] separatorUtf8 = Utf8.encode(separator);
+        int start = out.position();
+        try {
+            for (long epochDay : epochDays) {
+                byte[] encoded = cache.get(epochDay);
+                if (encoded == null) {
+                    encoded = Utf8.encode(formatEpochDay(epochDay, formatter, locale));
+                    cache.put(epochDay, encoded);
+                }
+                out.put(encoded).put(separatorUtf8);
+            }
+        } catch (BufferOverflowException e) {
+            out.position(start);
+            throw e;
+        }
+        return out;
+    }
+
     public static String getLocalizedDateTime(LocalDateTime localDateTime, Locale locale) {
         if (localDateTime == null) {
             return null;
         }
-        DateTimeFormatter formatter
-                = DateTimeFormatter.ofPattern("dd/MM/yyyy hh:mm a")
-                .localizedBy(locale)
-                .withDecimalStyle(DecimalStyle.of(locale));
-
-        return localDateTime.format(formatter);
+        return DateRenderer.formatDateTime(localDateTime, locale);
     }
 
 
@@ -23,24 +144,14 @@ public class DateUtils {
         if (localDate == null) {
             return null;
         }
-        DateTimeFormatter formatter
-                = DateTimeFormatter.ofPattern("dd/MM/yyyy")
-                .localizedBy(locale)
-                .withDecimalStyle(DecimalStyle.of(locale));
-
-        return localDate.format(formatter);
+        return DateRenderer.formatDate(localDate, locale);
     }
 
     public static String getLocalizedTime(LocalTime localTime, Locale locale) {
         if (localTime == null) {
             return null;
         }
-        DateTimeFormatter formatter
-                = DateTimeFormatter.ofPattern("hh:mm a")
-                .localizedBy(locale)
-                .withDecimalStyle(DecimalStyle.of(locale));
-
-        return localTime.format(formatter);
+        return DateRenderer.formatTime(localTime, locale);
     }
 
 
@@ -48,12 +159,7 @@ public class DateUtils {
         if (localDateTime == null) {
             return null;
         }
-        DateTimeFormatter formatter
-                = DateTimeFormatter.ofPattern("dd/MM/yyyy")
-                .localizedBy(locale)
-                .withDecimalStyle(DecimalStyle.of(locale));
-
-        return localDateTime.format(formatter);
+        return DateRenderer.formatDate(localDateTime.toLocalDate(), locale);
     }
 
     public static LocalDateTime addDaysToCurrentDate(Long numOfDays) {
@@ -64,100 +170,116 @@ public class DateUtils {
         if (localDate == null) {
             return null;
         }
-        DateTimeFormatter formatter
-                = DateTimeFormatter.ofPattern("dd")
-                .localizedBy(locale)
-                .withDecimalStyle(DecimalStyle.of(locale));
-
-        return localDate.format(formatter);
+        return localDate.format(getFormatter(DAY_OF_MONTH_PATTERN, locale));
     }
 
     public static String getLocalizedMonthValue(LocalDate localDate, Locale locale) {
         if (localDate == null) {
             return null;
         }
-        DateTimeFormatter formatter
-                = DateTimeFormatter.ofPattern("MM")
-                .localizedBy(locale)
-                .withDecimalStyle(DecimalStyle.of(locale));
-
-        return localDate.format(formatter);
+        return localDate.format(getFormatter(MONTH_VALUE_PATTERN, locale));
     }
 
     public static String getLocalizedYear(LocalDate localDate, Locale locale) {
         if (localDate == null) {
             return null;
         }
-        DateTimeFormatter formatter
-                = DateTimeFormatter.ofPattern("yyyy")
-                .localizedBy(locale)
-                .withDecimalStyle(DecimalStyle.of(locale));
-
-        return localDate.format(formatter);
+        return localDate.format(getFormatter(YEAR_PATTERN, locale));
     }
 
     public static String getBanglaDate(LocalDate localDate) {
         if (localDate == null) {
             return null;
         }
-        Locale locale = new Locale.Builder().setLanguage("bn").build();
-        DateTimeFormatter formatter
-                = DateTimeFormatter.ofPattern("dd/MM/yyyy")
-                .localizedBy(locale)
-                .withDecimalStyle(DecimalStyle.of(locale));
-
-        return localDate.format(formatter);
+        return DateRenderer.formatDate(localDate, BANGLA_LOCALE);
     }
 
     public static String getBanglaDayOfMonth(LocalDate localDate) {
         if (localDate == null) {
             return null;
         }
-        Locale locale = new Locale.Builder().setLanguage("bn").build();
-        DateTimeFormatter formatter
-                = DateTimeFormatter.ofPattern("dd")
-                .localizedBy(locale)
-                .withDecimalStyle(DecimalStyle.of(locale));
-
-        return localDate.format(formatter);
+        return localDate.format(BANGLA_DAY_OF_MONTH_FORMATTER);
     }
 
     public static String getBanglaMonthValue(LocalDate localDate) {
         if (localDate == null) {
             return null;
         }
-        Locale locale = new Locale.Builder().setLanguage("bn").build();
-        DateTimeFormatter formatter
-                = DateTimeFormatter.ofPattern("MM")
-                .localizedBy(locale)
-                .withDecimalStyle(DecimalStyle.of(locale));
-
-        return localDate.format(formatter);
+        return localDate.format(BANGLA_MONTH_VALUE_FORMATTER);
     }
 
     public static String getBanglaYear(LocalDate localDate) {
         if (localDate == null) {
             return null;
         }
-        Locale locale = new Locale.Builder().setLanguage("bn").build();
-        DateTimeFormatter formatter
-                = DateTimeFormatter.ofPattern("yyyy")
-                .localizedBy(locale)
-                .withDecimalStyle(DecimalStyle.of(locale));
+        return localDate.format(BANGLA_YEAR_FORMATTER);
+    }
 
-        return localDate.format(formatter);
+    /**
+     * Returns the date in the Bengali calendar, e.g. "১ বৈশাখ ১৪৩১ বঙ্গাব্দ" for 14 April 2024, unlike
+     * {@link #getBanglaDate(LocalDate)}, which writes the Gregorian date in Bangla digits.
+     *
+     * @see BanglaCalendar
+     */
+    public static String getBanglaCalendarDate(LocalDate localDate) {
+        if (localDate == null) {
+            return null;
+        }
+        return BanglaCalendar.formatDate(localDate, true);
+    }
+
+    /**
+     * Returns the date in the Bengali calendar, in Bangla for a Bangla locale and in English otherwise,
+     * e.g. "1 Boishakh 1431 Bangabda".
+     */
+    public static String getLocalizedBanglaCalendarDate(LocalDate localDate, Locale locale) {
+        if (localDate == null) {
+            return null;
+        }
+        return BanglaCalendar.formatDate(localDate, BANGLA_LOCALE.getLanguage().equals(locale.getLanguage()));
     }
 
     public static String getBanglaTime(LocalTime localTime) {
         if (localTime == null) {
             return null;
         }
-        Locale locale = new Locale.Builder().setLanguage("bn").build();
-        DateTimeFormatter formatter
-                = DateTimeFormatter.ofPattern("hh:mm")
-                .localizedBy(locale)
-                .withDecimalStyle(DecimalStyle.of(locale));
+        return DateRenderer.formatTimeWithoutMarker(localTime, BANGLA_LOCALE);
+    }
+
+    private static void checkOutputLength(String[] out, int inputLength) {
+        if (out.length < inputLength) {
+            throw new IllegalArgumentException("Output array holds " + out.length + " entries but " + inputLength + " dates were given");
+        }
+    }
+
+    private static <V> EpochDayCache<V> cacheFor(long[] epochDays) {
+        long firstDay = Long.MAX_VALUE;
+        long lastDay = Long.MIN_VALUE;
+        for (long epochDay : epochDays) {
+            firstDay = Math.min(firstDay, epochDay);
+            lastDay = Math.max(lastDay, epochDay);
+        }
+        return new EpochDayCache<>(firstDay, lastDay);
+    }
+
+    /**
+     * @return The formatter for {@code pattern}, or null for the pattern {@link DateRenderer} writes itself
+     */
+    private static DateTimeFormatter formatterFor(String pattern, Locale locale) {
+        return DateRenderer.DATE_PATTERN.equals(pattern) ? null : getFormatter(pattern, locale);
+    }
+
+    private static String format(EpochDayCache<String> cache, long epochDay, DateTimeFormatter formatter, Locale locale) {
+        String formatted = cache.get(epochDay);
+        if (formatted == null) {
+            formatted = formatEpochDay(epochDay, formatter, locale);
+            cache.put(epochDay, formatted);
+        }
+        return formatted;
+    }
 
-        return localTime.format(formatter);
+    private static String formatEpochDay(long epochDay, DateTimeFormatter formatter, Locale locale) {
+        LocalDate localDate = LocalDate.ofEpochDay(epochDay);
+        return formatter == null ? DateRenderer.formatDate(localDate, locale) : formatter.format(localDate);
     }
-}
\ No newline at end of file
+}
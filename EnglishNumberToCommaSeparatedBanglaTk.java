@@ -6,39 +6,105 @@ public class EnglishNumberToCommaSeparatedBanglaTk {
         if(amount == null) {
             return null;
         }
-        String formattedAmount = amount.setScale(2, RoundingMode.CEILING).toString();
-        return banglaMoneyCommaFormatter(formattedAmount);
-    }
-
-    private static String banglaMoneyCommaFormatter(String amount) {
-        StringBuilder result = new StringBuilder();
-        String[] parts = amount.split("\\.");
-        String integerPart = parts[0];
-
-        try {
-            for (int i = 0; i < integerPart.length(); i++) {
-                char c = integerPart.charAt(i);
-                result.append(c);
-
-                int positionFromRight = integerPart.length() - 1 - i;
-                int positionInGroup = positionFromRight % 7;
-                if (positionFromRight > 0 && positionInGroup == 0 || positionInGroup == 3 || positionInGroup == 5) {
-                    result.append(",");
-                }
-            }
-
-            // Add the decimal part if present
-            if (parts.length > 1) {
-                result.append(".").append(parts[1]);
-            }
-        } catch (Exception e) {
-            return amount;
+        return CommaSeparatedFormatter.format(amount, 2, RoundingMode.CEILING, false, CommaSeparatedFormatter.Style.BANGLA_GROUPING_ENGLISH_DIGITS);
+    }
+
+    public static String englishToBanglaMoneyFormatter(BigDecimal amount) {
+        if(amount == null) {
+            return null;
         }
+        return CommaSeparatedFormatter.format(amount, 2, RoundingMode.CEILING, false, CommaSeparatedFormatter.Style.BANGLA);
+    }
 
-        return result.toString();
+    /**
+     * Formats an amount with Bangla grouping and English digits, e.g. 3,13,123.21. Unlike
+     * {@link #banglaMoneyFormatter(BigDecimal)}, which rounds up, no rounding happens here; the Money was
+     * rounded with the mode chosen when it was created.
+     *
+     * @return The formatted amount, or null for null
+     */
+    public static String banglaMoneyFormatter(Money amount) {
+        if (amount == null) {
+            return null;
+        }
+        return CommaSeparatedFormatter.formatPaisa(amount.getPaisa(), CommaSeparatedFormatter.Style.BANGLA_GROUPING_ENGLISH_DIGITS);
     }
 
-    public static String englishToBanglaMoneyFormatter(BigDecimal amount) {
-        return NumberUtils.englishToBanglaDigitConversion(banglaMoneyFormatter(amount));
+    /**
+     * Formats an amount with Bangla grouping and Bangla digits, e.g. ৩,১৩,১২৩.২১, without rounding.
+     *
+     * @return The formatted amount, or null for null
+     * @see #banglaMoneyFormatter(Money)
+     */
+    public static String englishToBanglaMoneyFormatter(Money amount) {
+        if (amount == null) {
+            return null;
+        }
+        return CommaSeparatedFormatter.formatPaisa(amount.getPaisa(), CommaSeparatedFormatter.Style.BANGLA);
+    }
+
+    /**
+     * Writes the output of {@link #banglaMoneyFormatter(BigDecimal)} into a caller-supplied buffer.
+     * Nothing is written when the amount is null.
+     *
+     * @param out    The StringBuilder, CharBuffer or other Appendable to write into
+     * @param amount The amount to format
+     * @return The same {@code out}, for chaining
+     * @throws java.io.UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendBanglaMoney(A out, BigDecimal amount) {
+        return appendBanglaMoney(out, amount, CommaSeparatedFormatter.Style.BANGLA_GROUPING_ENGLISH_DIGITS);
+    }
+
+    /**
+     * Writes the output of {@link #englishToBanglaMoneyFormatter(BigDecimal)} into a caller-supplied buffer.
+     * Nothing is written when the amount is null.
+     *
+     * @param out    The StringBuilder, CharBuffer or other Appendable to write into
+     * @param amount The amount to format
+     * @return The same {@code out}, for chaining
+     * @throws java.io.UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendEnglishToBanglaMoney(A out, BigDecimal amount) {
+        return appendBanglaMoney(out, amount, CommaSeparatedFormatter.Style.BANGLA);
+    }
+
+    /**
+     * Writes the output of {@link #banglaMoneyFormatter(Money)} into a caller-supplied buffer.
+     * Nothing is written when the amount is null.
+     *
+     * @param out    The StringBuilder, CharBuffer or other Appendable to write into
+     * @param amount The amount to format
+     * @return The same {@code out}, for chaining
+     * @throws java.io.UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendBanglaMoney(A out, Money amount) {
+        if (amount == null) {
+            return out;
+        }
+        return CommaSeparatedFormatter.appendPaisa(out, amount.getPaisa(), CommaSeparatedFormatter.Style.BANGLA_GROUPING_ENGLISH_DIGITS);
+    }
+
+    /**
+     * Writes the output of {@link #englishToBanglaMoneyFormatter(Money)} into a caller-supplied buffer.
+     * Nothing is written when the amount is null.
+     *
+     * @param out    The StringBuilder, CharBuffer or other Appendable to write into
+     * @param amount The amount to format
+     * @return The same {@code out}, for chaining
+     * @throws java.io.UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendEnglishToBanglaMoney(A out, Money amount) {
+        if (amount == null) {
+            return out;
+        }
+        return CommaSeparatedFormatter.appendPaisa(out, amount.getPaisa(), CommaSeparatedFormatter.Style.BANGLA);
+    }
+
+    private static <A extends Appendable> A appendBanglaMoney(A out, BigDecimal amount, CommaSeparatedFormatter.Style style) {
+        if (amount == null) {
+            return out;
+        }
+        return CommaSeparatedFormatter.append(out, amount, 2, RoundingMode.CEILING, false, style);
     }
 }
\ No newline at end of file
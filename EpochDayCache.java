@@ -0,0 +1,49 @@
+/**
+ * A direct-mapped cache from epoch day to what a bulk call rendered for it, indexed by the day's offset
+ * from the earliest day of the batch. It lives for one call only, so it needs no locking or eviction.
+ * <p>
+ * A batch spanning up to {@value #MAX_SLOTS} days gets one slot per day and renders every distinct day
+ * exactly once; a wider batch shares the slots, and a day that lost its slot is simply rendered again.
+ *
+ * @param <V> The rendered form, e.g. the date text or its UTF-8 bytes
+ */
+final class EpochDayCache<V> {
+    static final int MAX_SLOTS = 4_096;
+
+    private final long firstDay;
+    private final int mask;
+    private final long[] days;
+    private final Object[] values;
+
+    /**
+     * @param firstDay The earliest epoch day of the batch
+     * @param lastDay  The latest epoch day of the batch
+     */
+    EpochDayCache(long firstDay, long lastDay) {
+        long span = lastDay - firstDay + 1;
+        int slots = span >= MAX_SLOTS || span <= 0 ? MAX_SLOTS : Integer.highestOneBit((int) span * 2 - 1);
+        this.firstDay = firstDay;
+        this.mask = slots - 1;
+        this.days = new long[slots];
+        this.values = new Object[slots];
+    }
+
+    /**
+     * @return The value cached for {@code epochDay}, or null if it has not been rendered or was displaced
+     */
+    @SuppressWarnings("unchecked")
+    V get(long epochDay) {
+        int slot = slot(epochDay);
+        return values[slot] != null && days[slot] == epochDay ? (V) values[slot] : null;
+    }
+
+    void put(long epochDay, V value) {
+        int slot = slot(epochDay);
+        days[slot] = epochDay;
+        values[slot] = value;
+    }
+
+    private int slot(long epochDay) {
+        return (int) (epochDay - firstDay) & mask;
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Where the conversions report to the installed {@link ConversionListener}. With no listener installed,
+ * which is the default, each conversion pays one volatile read and no clock read.
+ */
+public class Instrumentation {
+    private static volatile ConversionListener listener;
+
+    /**
+     * Installs the listener every conversion reports to, replacing the current one.
+     *
+     * @param newListener The listener, or null to turn instrumentation off
+     * @return The listener that was installed before, or null
+     */
+    public static ConversionListener setListener(ConversionListener newListener) {
+        ConversionListener previous = listener;
+        listener = newListener;
+        return previous;
+    }
+
+    public static ConversionListener getListener() {
+        return listener;
+    }
+
+    /**
+     * @return The start time to pass to {@link #record}, or 0 when no listener is installed
+     */
+    static long start() {
+        return listener == null ? 0 : System.nanoTime();
+    }
+
+    static void record(ConversionListener.Operation operation, boolean isBangla, long start) {
+        ConversionListener current = listener;
+        if (current != null && start != 0) {
+            current.onConversion(operation, isBangla, System.nanoTime() - start);
+        }
+    }
+
+    static void event(ConversionListener.Operation operation, boolean isBangla, ConversionListener.Event event) {
+        ConversionListener current = listener;
+        if (current != null) {
+            current.onEvent(operation, isBangla, event);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of money held as a whole number of paisa (1 Taka = 100 Paisa), e.g. 31312321 for ৳313,123.21.
+ * <p>
+ * Rounding happens once, when the amount is created, with a {@link RoundingMode} the caller picks on purpose.
+ * The words and comma formatters of {@link TkInWord}, {@link EnglishNumberToCommaSeparatedBanglaTk},
+ * {@link NumberingFormat} and {@link TkConverter} all take a Money directly and then only do integer
+ * arithmetic, so the same Money reads the same in every format, whichever formatter it goes through.
+ * <pre>
+ * Money amount = Money.of(new BigDecimal("313123.205"), RoundingMode.HALF_EVEN);   // 313123.20
+ * TkInWord.formatToCommaSeparatedBanglaTk(amount);                                 // "৩,১৩,১২৩.২০"
+ * TkInWord.convertToTkInWordByLocale(amount, false);                               // "... Twenty Paisa Only"
+ * </pre>
+ */
+public final class Money implements Comparable<Money> {
+    public static final Money ZERO = new Money(0);
+
+    private static final int PAISA_SCALE = 2;
+    // Long.MAX_VALUE paisa is about 9.2 * 10^16 Taka, so an amount with more whole digits cannot fit
+    private static final int MAX_TAKA_DIGITS = 17;
+    private static final BigDecimal HALF_PAISA = new BigDecimal("0.005");
+
+    private final long paisa;
+
+    private Money(long paisa) {
+        this.paisa = paisa;
+    }
+
+    /**
+     * @param paisa The amount in paisa (1 Taka = 100 Paisa)
+     */
+    public static Money ofPaisa(long paisa) {
+        return paisa == 0 ? ZERO : new Money(paisa);
+    }
+
+    /**
+     * Rounds an amount to whole paisa.
+     *
+     * @param roundingMode How to round digits beyond the second decimal, e.g. {@link RoundingMode#HALF_UP}
+     * @throws ArithmeticException if the amount in paisa does not fit in a long, or if the mode is
+     *                             {@link RoundingMode#UNNECESSARY} and the amount has more than two decimals
+     */
+    public static Money of(BigDecimal amount, RoundingMode roundingMode) {
+        long paisa = CommaSeparatedFormatter.toUnscaled(amount, PAISA_SCALE, roundingMode);
+        if (paisa == CommaSeparatedFormatter.DOES_NOT_FIT) {
+            paisa = roundOutsideLong(amount, roundingMode);
+        }
+        return ofPaisa(paisa);
+    }
+
+    /**
+     * Rounds an amount whose unscaled value or scale is beyond what {@code toUnscaled} reads. Its magnitude is
+     * checked first, so a number such as 1E20000000 or 1E-20000000 costs no more than a small one: too many
+     * whole digits cannot fit, and an amount below one paisa rounds to 0 or one paisa by its sign.
+     */
+    private static long roundOutsideLong(BigDecimal amount, RoundingMode roundingMode) {
+        long wholeDigits = (long) amount.precision() - amount.scale();
+        if (wholeDigits > MAX_TAKA_DIGITS) {
+            throw new ArithmeticException("Amount does not fit in a long of paisa");
+        }
+        if (wholeDigits <= -PAISA_SCALE) {
+            // Stand in for the fraction of a paisa with tenths below, at or above half a paisa
+            int half = amount.abs().compareTo(HALF_PAISA);
+            long tenths = half < 0 ? 1 : half == 0 ? 5 : 9;
+            return CommaSeparatedFormatter.divideAndRound(amount.signum() * tenths, 10, roundingMode);
+        }
+        return amount.setScale(PAISA_SCALE, roundingMode).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Rounds an amount to whole paisa. The double is taken at its shortest decimal form, as
+     * {@link BigDecimal#valueOf(double)} does, so 0.1 is ten paisa rather than the binary value just above it.
+     *
+     * @throws NumberFormatException if the amount is NaN or infinite
+     * @throws ArithmeticException   as {@link #of(BigDecimal, RoundingMode)} does
+     */
+    public static Money of(double amount, RoundingMode roundingMode) {
+        return of(BigDecimal.valueOf(amount), roundingMode);
+    }
+
+    /**
+     * Parses and rounds an amount written as a plain decimal number, e.g. "313123.21" or "-0.5".
+     *
+     * @throws NumberFormatException if the text is not a number
+     * @throws ArithmeticException   as {@link #of(BigDecimal, RoundingMode)} does
+     */
+    public static Money parse(String amount, RoundingMode roundingMode) {
+        return of(new BigDecimal(amount.trim()), roundingMode);
+    }
+
+    /**
+     * @return The amount in paisa (1 Taka = 100 Paisa)
+     */
+    public long getPaisa() {
+        return paisa;
+    }
+
+    /**
+     * @return The amount with exactly two decimals, e.g. 313123.21
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(paisa, PAISA_SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(paisa, other.paisa);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Money && paisa == ((Money) o).paisa;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(paisa);
+    }
+
+    /**
+     * @return The amount with exactly two decimals, e.g. 313123.21
+     */
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -1,29 +1,187 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Objects;
 
 public class NumberUtils {
+    static final char ENGLISH_ZERO_DIGIT = '0';
+    static final char BANGLA_ZERO_DIGIT = '০';
+    private static final int SHORT_TEXT_LENGTH = 32;
+    private static final int CHUNK_SIZE = 1024;
+
     public static String englishToBanglaDigitConversion(String englishNumber) {
         if (englishNumber == null || englishNumber.isEmpty())
             return null;
-        StringBuilder banglaNumber = new StringBuilder();
+        long start = Instrumentation.start();
+        char[] banglaNumber = englishNumber.toCharArray();
+        englishToBanglaDigits(banglaNumber, 0, banglaNumber.length);
+        String converted = new String(banglaNumber);
+        Instrumentation.record(ConversionListener.Operation.DIGITS, true, start);
+        return converted;
+    }
 
-        char[] banglaDigits = {'০', '১', '২', '৩', '৪', '৫', '৬', '৭', '৮', '৯'};
+    /**
+     * The reverse of {@link #englishToBanglaDigitConversion(String)}: turns Bangla digits into ASCII digits.
+     */
+    public static String banglaToEnglishDigitConversion(String banglaNumber) {
+        if (banglaNumber == null || banglaNumber.isEmpty())
+            return null;
+        char[] englishNumber = banglaNumber.toCharArray();
+        banglaToEnglishDigits(englishNumber, 0, englishNumber.length);
+        return new String(englishNumber);
+    }
 
-        try {
-            for (char digit : englishNumber.toCharArray()) {
-                if (Character.isDigit(digit)) {
-                    if ((digit - 48) <= 9) {
-                        banglaNumber.append(banglaDigits[digit - 48]);
-                    } else {
-                        banglaNumber.append(digit);
-                    }
-                } else {
-                    banglaNumber.append(digit);
+    /**
+     * Converts the ASCII digits of {@code chars[from, to)} to Bangla digits in place; other characters are left alone.
+     * Meant for whole message bodies and report pages: the loop is branch-free, so the JIT converts many
+     * characters per instruction.
+     *
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    public static void englishToBanglaDigits(char[] chars, int from, int to) {
+        Objects.checkFromToIndex(from, to, chars.length);
+        shiftDigits(chars, from, to, ENGLISH_ZERO_DIGIT, BANGLA_ZERO_DIGIT);
+    }
+
+    /**
+     * Converts the Bangla digits of {@code chars[from, to)} to ASCII digits in place; other characters are left alone.
+     *
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    public static void banglaToEnglishDigits(char[] chars, int from, int to) {
+        Objects.checkFromToIndex(from, to, chars.length);
+        shiftDigits(chars, from, to, BANGLA_ZERO_DIGIT, ENGLISH_ZERO_DIGIT);
+    }
+
+    /**
+     * Copies {@code text[from, to)} into {@code dest} with its ASCII digits converted to Bangla digits.
+     *
+     * @param dest       The array to write into
+     * @param destOffset Where to start writing
+     * @return The offset just past the last char written
+     * @throws IndexOutOfBoundsException if either range is out of bounds
+     */
+    public static int englishToBanglaDigits(CharSequence text, int from, int to, char[] dest, int destOffset) {
+        return transliterate(text, from, to, dest, destOffset, ENGLISH_ZERO_DIGIT, BANGLA_ZERO_DIGIT);
+    }
+
+    /**
+     * Copies {@code text[from, to)} into {@code dest} with its Bangla digits converted to ASCII digits.
+     *
+     * @return The offset just past the last char written
+     * @throws IndexOutOfBoundsException if either range is out of bounds
+     * @see #englishToBanglaDigits(CharSequence, int, int, char[], int)
+     */
+    public static int banglaToEnglishDigits(CharSequence text, int from, int to, char[] dest, int destOffset) {
+        return transliterate(text, from, to, dest, destOffset, BANGLA_ZERO_DIGIT, ENGLISH_ZERO_DIGIT);
+    }
+
+    /**
+     * Writes the Bangla digit form of the given text into a caller-supplied buffer.
+     * Non-digit characters are copied as they are; nothing is written when the text is null.
+     *
+     * @param out           The StringBuilder, CharBuffer or other Appendable to write into
+     * @param englishNumber The text whose ASCII digits are converted
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendEnglishToBanglaDigitConversion(A out, CharSequence englishNumber) {
+        if (englishNumber == null) {
+            return out;
+        }
+
+        int length = englishNumber.length();
+        if (length <= SHORT_TEXT_LENGTH) {
+            try {
+                for (int i = 0; i < length; i++) {
+                    out.append(toDigit(englishNumber.charAt(i), BANGLA_ZERO_DIGIT));
                 }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
-        } catch (Exception e) {
-            return englishNumber;
+            return out;
         }
-        return banglaNumber.toString();
+
+        char[] chunk = new char[CHUNK_SIZE];
+        for (int from = 0; from < length; from += CHUNK_SIZE) {
+            int to = Math.min(length, from + CHUNK_SIZE);
+            int chunkLength = englishToBanglaDigits(englishNumber, from, to, chunk, 0);
+            append(out, chunk, chunkLength);
+        }
+        return out;
+    }
+
+    /**
+     * Writes the Bangla digit form of the given text into {@code out} as UTF-8.
+     * Nothing is written when the text is null.
+     *
+     * @param out           A heap or direct buffer, written from its position onwards
+     * @param englishNumber The text whose ASCII digits are converted
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room
+     */
+    public static ByteBuffer encodeEnglishToBanglaDigitConversion(ByteBuffer out, CharSequence englishNumber) {
+        if (englishNumber == null) {
+            return out;
+        }
+
+        int length = englishNumber.length();
+        char[] chunk = new char[Math.min(length, CHUNK_SIZE)];
+        for (int from = 0; from < length; from += CHUNK_SIZE) {
+            int to = Math.min(length, from + CHUNK_SIZE);
+            Utf8.put(out, chunk, 0, englishToBanglaDigits(englishNumber, from, to, chunk, 0));
+        }
+        return out;
+    }
+
+    private static int transliterate(CharSequence text, int from, int to, char[] dest, int destOffset, char fromZeroDigit, char toZeroDigit) {
+        Objects.checkFromToIndex(from, to, text.length());
+        int length = to - from;
+        Objects.checkFromIndexSize(destOffset, length, dest.length);
+
+        if (text instanceof String) {
+            ((String) text).getChars(from, to, dest, destOffset);
+        } else if (text instanceof StringBuilder) {
+            ((StringBuilder) text).getChars(from, to, dest, destOffset);
+        } else {
+            for (int i = 0; i < length; i++) {
+                dest[destOffset + i] = text.charAt(from + i);
+            }
+        }
+        shiftDigits(dest, destOffset, destOffset + length, fromZeroDigit, toZeroDigit);
+        return destOffset + length;
+    }
+
+    /**
+     * Moves every digit of one script to the same digit of another. There is no branch per character:
+     * a mask that is all ones for non-digits cancels the shift, which lets the JIT vectorize the loop.
+     */
+    private static void shiftDigits(char[] chars, int from, int to, char fromZeroDigit, char toZeroDigit) {
+        int shift = toZeroDigit - fromZeroDigit;
+        for (int i = from; i < to; i++) {
+            int c = chars[i];
+            int digit = c - fromZeroDigit;
+            int notDigit = (digit | (9 - digit)) >> 31;
+            chars[i] = (char) (c + (shift & ~notDigit));
+        }
+    }
+
+    private static void append(Appendable out, char[] chars, int length) {
+        try {
+            if (out instanceof StringBuilder) {
+                ((StringBuilder) out).append(chars, 0, length);
+            } else {
+                out.append(CharBuffer.wrap(chars, 0, length));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static char toDigit(char c, char zeroDigit) {
+        return c >= '0' && c <= '9' ? (char) (zeroDigit + (c - '0')) : c;
     }
 }
\ No newline at end of file
@@ -0,0 +1,637 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A {@link NumberingSystem} compiled into immutable tables: every 0-999 segment pre-rendered, the scale
+ * words with their values, and UTF-8 copies of them all. Converting an amount walks the scales with
+ * integer arithmetic and copies words out of the tables, the same way for every language, so there are no
+ * map lookups or per-language branches per call. Instances are immutable and safe to share.
+ * <pre>
+ * NumberingFormat.hindi().toWords(new BigDecimal("1234.50"))       // एक हज़ार दो सौ चौंतीस रुपये पचास पैसे मात्र
+ * NumberingFormat.internationalEnglish().formatMoney(amount)    // 123,456,789.25
+ * </pre>
+ * Each built-in format is compiled the first time its accessor is called, in a holder class of its own,
+ * so a program that only writes English never builds the Bangla or Hindi tables.
+ */
+public final class NumberingFormat {
+    private static final int NUMBER_WORD_COUNT = 100;
+    private static final int SEGMENT_COUNT = 1_000;
+    private static final int WORDS_INITIAL_CAPACITY = 128;
+    private static final long PAISA_PER_TAKA = 100L;
+
+    private final String[] numberWords;
+    private final String[] segmentWords;
+    private final String[] scaleWords;
+    private final long[] scales;
+    private final int topScaleDigits;
+    private final int maxBlockChars;
+    private final String currencyText;
+    private final String subUnitText;
+    private final String onlyText;
+    private final byte[][] numberUtf8;
+    private final byte[][] segmentUtf8;
+    private final byte[][] scaleUtf8;
+    private final byte[] currencyUtf8;
+    private final byte[] subUnitUtf8;
+    private final byte[] onlyUtf8;
+    private final CommaSeparatedFormatter.Style style;
+    private final boolean isBangla;
+
+    private NumberingFormat(NumberingSystem system) {
+        numberWords = system.numberWords().clone();
+        String[] scaleAndHundredWords = system.scaleWords().clone();
+        NumberingSystem.Grouping grouping = Objects.requireNonNull(system.grouping(), "grouping");
+        if (numberWords.length != NUMBER_WORD_COUNT) {
+            throw new IllegalArgumentException("numberWords must hold the words for 0 to 99, not " + numberWords.length + " words");
+        }
+        if (scaleAndHundredWords.length != grouping.scaleCount() + 1) {
+            throw new IllegalArgumentException(grouping + " grouping needs " + (grouping.scaleCount() + 1) + " scale words, not " + scaleAndHundredWords.length);
+        }
+
+        segmentWords = createSegmentWords(numberWords, Objects.requireNonNull(scaleAndHundredWords[0], "hundred word"));
+        scaleWords = new String[grouping.scaleCount()];
+        scales = new long[grouping.scaleCount()];
+        for (int i = 0; i < scales.length; i++) {
+            scaleWords[i] = Objects.requireNonNull(scaleAndHundredWords[i + 1], "scale word");
+            scales[i] = grouping.scale(i);
+        }
+        topScaleDigits = Long.toString(scales[scales.length - 1]).length() - 1;
+        maxBlockChars = maxBlockChars(segmentWords, scaleWords);
+        currencyText = Objects.requireNonNull(system.currencyText(), "currencyText");
+        subUnitText = Objects.requireNonNull(system.subUnitText(), "subUnitText");
+        String only = Objects.requireNonNull(system.onlyText(), "onlyText");
+        onlyText = only.isEmpty() ? null : only;
+
+        numberUtf8 = Utf8.encodeAll(numberWords);
+        segmentUtf8 = Utf8.encodeAll(segmentWords);
+        scaleUtf8 = Utf8.encodeAll(scaleWords);
+        currencyUtf8 = Utf8.encode(currencyText);
+        subUnitUtf8 = Utf8.encode(subUnitText);
+        onlyUtf8 = Utf8.encode(onlyText);
+
+        style = new CommaSeparatedFormatter.Style(grouping == NumberingSystem.Grouping.INDIAN, system.zeroDigit());
+        isBangla = system.zeroDigit() == NumberUtils.BANGLA_ZERO_DIGIT;
+    }
+
+    /**
+     * Bangla words, lakh and crore, Bangla digits: the output of {@link TkInWord} with {@code isBangla}.
+     */
+    public static NumberingFormat bangla() {
+        return BanglaHolder.FORMAT;
+    }
+
+    /**
+     * English words with lakh and crore in Taka: the output of {@link TkInWord} without {@code isBangla}.
+     */
+    public static NumberingFormat english() {
+        return EnglishHolder.FORMAT;
+    }
+
+    /**
+     * English words with lakh and crore in Rupees and Paise.
+     */
+    public static NumberingFormat indianEnglish() {
+        return IndianEnglishHolder.FORMAT;
+    }
+
+    /**
+     * English words with million and billion in Taka; its money format is the Western 313,123.21.
+     */
+    public static NumberingFormat internationalEnglish() {
+        return InternationalEnglishHolder.FORMAT;
+    }
+
+    /**
+     * Hindi words, lakh and crore, Devanagari digits, in Rupees and Paise.
+     */
+    public static NumberingFormat hindi() {
+        return HindiHolder.FORMAT;
+    }
+
+    /**
+     * Compiles a numbering system; do it once and keep the result.
+     *
+     * @throws IllegalArgumentException if the system does not have 100 number words or one scale word per scale
+     * @throws NullPointerException     if a word is null
+     */
+    public static NumberingFormat of(NumberingSystem system) {
+        return new NumberingFormat(system);
+    }
+
+    /**
+     * Converts an amount to words, e.g. 1234.50 as "One Thousand Two Hundred Thirty Four Taka Fifty Paisa Only".
+     * Digits beyond the second decimal place are dropped.
+     *
+     * @return The amount in words, an empty string for zero, the plain amount if it is negative, or null for null
+     */
+    public String toWords(BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+        long start = Instrumentation.start();
+        String words = appendWords(new StringBuilder(WORDS_INITIAL_CAPACITY), amount).toString();
+        Instrumentation.record(ConversionListener.Operation.WORDS, isBangla, start);
+        return words;
+    }
+
+    /**
+     * @param paisa The amount in paisa, or the sub-unit of the currency (1 Taka = 100 Paisa)
+     * @see #toWords(BigDecimal)
+     */
+    public String toWords(long paisa) {
+        long start = Instrumentation.start();
+        String words = appendWords(new StringBuilder(WORDS_INITIAL_CAPACITY), paisa).toString();
+        Instrumentation.record(ConversionListener.Operation.WORDS, isBangla, start);
+        return words;
+    }
+
+    /**
+     * Converts an amount to words without rounding; the Money was rounded when it was created.
+     *
+     * @return The amount in words, or null for null
+     * @see #toWords(BigDecimal)
+     */
+    public String toWords(Money amount) {
+        return amount == null ? null : toWords(amount.getPaisa());
+    }
+
+    /**
+     * Writes the output of {@link #toWords(BigDecimal)} into a caller-supplied buffer. Nothing is written
+     * when the amount is null.
+     *
+     * @param out The StringBuilder, CharBuffer or other Appendable to write into
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public <A extends Appendable> A appendWords(A out, BigDecimal amount) {
+        if (amount == null) {
+            return out;
+        }
+
+        try {
+            long paisa = amount.signum() < 0 ? -1 : TkInWord.toPaisa(amount);
+            if (paisa >= 0) {
+                appendPaisaWords(out, paisa);
+            } else if (amount.signum() < 0) {
+                out.append(amount.toString());
+            } else {
+                appendLargeWords(out, amount);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    /**
+     * Writes the output of {@link #toWords(long)} into a caller-supplied buffer.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public <A extends Appendable> A appendWords(A out, long paisa) {
+        try {
+            appendPaisaWords(out, paisa);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    /**
+     * Writes the output of {@link #toWords(Money)} into a caller-supplied buffer. Nothing is written when the
+     * amount is null.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public <A extends Appendable> A appendWords(A out, Money amount) {
+        return amount == null ? out : appendWords(out, amount.getPaisa());
+    }
+
+    /**
+     * Writes the output of {@link #toWords(BigDecimal)} into {@code out} as UTF-8, copying every word from a
+     * table encoded once. Nothing is written when the amount is null.
+     *
+     * @param out A heap or direct buffer, written from its position onwards
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room; what was written so far is kept
+     */
+    public ByteBuffer encodeWords(ByteBuffer out, BigDecimal amount) {
+        if (amount == null) {
+            return out;
+        }
+
+        long paisa = amount.signum() < 0 ? -1 : TkInWord.toPaisa(amount);
+        if (paisa >= 0) {
+            return encodeWords(out, paisa);
+        }
+        if (amount.signum() < 0) {
+            Utf8.put(out, amount.toString());
+        } else {
+            encodeLargeWords(out, amount);
+        }
+        return out;
+    }
+
+    /**
+     * Writes the output of {@link #toWords(long)} into {@code out} as UTF-8.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room; what was written so far is kept
+     */
+    public ByteBuffer encodeWords(ByteBuffer out, long paisa) {
+        if (paisa < 0) {
+            Utf8.put(out, BigDecimal.valueOf(paisa, 2).toString());
+            return out;
+        }
+
+        long taka = paisa / PAISA_PER_TAKA;
+        int paisaPart = (int) (paisa % PAISA_PER_TAKA);
+        boolean separate = false;
+
+        if (taka > 0) {
+            separate = encodeTaka(out, taka, false);
+        }
+        encodeEnding(out, separate, taka > 0, paisaPart);
+        return out;
+    }
+
+    /**
+     * Writes the output of {@link #toWords(Money)} into {@code out} as UTF-8. Nothing is written when the
+     * amount is null.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room; what was written so far is kept
+     */
+    public ByteBuffer encodeWords(ByteBuffer out, Money amount) {
+        return amount == null ? out : encodeWords(out, amount.getPaisa());
+    }
+
+    /**
+     * Formats an amount as comma separated money with two decimals, rounded half up, in this system's
+     * grouping and digits, e.g. "৩,১৩,১২৩.২১" or "313,123.21".
+     *
+     * @return The formatted amount, or null for null
+     */
+    public String formatMoney(BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+        return CommaSeparatedFormatter.format(amount, 2, RoundingMode.HALF_UP, false, style);
+    }
+
+    /**
+     * Writes the output of {@link #formatMoney(BigDecimal)} into a caller-supplied buffer. Nothing is
+     * written when the amount is null.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public <A extends Appendable> A appendMoney(A out, BigDecimal amount) {
+        if (amount == null) {
+            return out;
+        }
+        return CommaSeparatedFormatter.append(out, amount, 2, RoundingMode.HALF_UP, false, style);
+    }
+
+    /**
+     * Writes the output of {@link #formatMoney(BigDecimal)} into {@code out} as UTF-8. Nothing is written
+     * when the amount is null.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room
+     */
+    public ByteBuffer encodeMoney(ByteBuffer out, BigDecimal amount) {
+        if (amount == null) {
+            return out;
+        }
+        return CommaSeparatedFormatter.encode(out, amount, 2, RoundingMode.HALF_UP, false, style);
+    }
+
+    /**
+     * Formats an amount as comma separated money with two decimals in this system's grouping and digits.
+     * The Money was rounded when it was created, so this is integer arithmetic only.
+     *
+     * @return The formatted amount, or null for null
+     */
+    public String formatMoney(Money amount) {
+        return amount == null ? null : CommaSeparatedFormatter.formatPaisa(amount.getPaisa(), style);
+    }
+
+    /**
+     * Writes the output of {@link #formatMoney(Money)} into a caller-supplied buffer. Nothing is written when
+     * the amount is null.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public <A extends Appendable> A appendMoney(A out, Money amount) {
+        return amount == null ? out : CommaSeparatedFormatter.appendPaisa(out, amount.getPaisa(), style);
+    }
+
+    /**
+     * Writes the output of {@link #formatMoney(Money)} into {@code out} as UTF-8. Nothing is written when the
+     * amount is null.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room
+     */
+    public ByteBuffer encodeMoney(ByteBuffer out, Money amount) {
+        return amount == null ? out : CommaSeparatedFormatter.encodePaisa(out, amount.getPaisa(), style);
+    }
+
+    /**
+     * Formats a number with comma separators and at most {@code maxFractionDigits} decimals, rounded half
+     * up, without trailing fraction zeros.
+     *
+     * @return The formatted number, or null for null
+     */
+    public String formatNumber(BigDecimal number, int maxFractionDigits) {
+        if (number == null) {
+            return null;
+        }
+        return CommaSeparatedFormatter.format(number, maxFractionDigits, RoundingMode.HALF_UP, true, style);
+    }
+
+    /**
+     * Writes the output of {@link #formatNumber(BigDecimal, int)} into a caller-supplied buffer. Nothing is
+     * written when the number is null.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public <A extends Appendable> A appendNumber(A out, BigDecimal number, int maxFractionDigits) {
+        if (number == null) {
+            return out;
+        }
+        return CommaSeparatedFormatter.append(out, number, maxFractionDigits, RoundingMode.HALF_UP, true, style);
+    }
+
+    CommaSeparatedFormatter.Style style() {
+        return style;
+    }
+
+    boolean isBangla() {
+        return isBangla;
+    }
+
+    private void appendPaisaWords(Appendable out, long paisa) throws IOException {
+        if (paisa < 0) {
+            out.append(BigDecimal.valueOf(paisa, 2).toString());
+            return;
+        }
+
+        long taka = paisa / PAISA_PER_TAKA;
+        int paisaPart = (int) (paisa % PAISA_PER_TAKA);
+        boolean separate = false;
+
+        if (taka > 0) {
+            separate = appendTaka(out, taka, false);
+        }
+        appendEnding(out, separate, taka > 0, paisaPart);
+    }
+
+    /**
+     * Spells out amounts beyond the long range of paisa straight from their digits, in time linear in their
+     * length. The whole part is cut from the right into blocks as long as the top scale, seven digits for
+     * crore; each block is read into a long and spelled like a smaller amount, and every block after the
+     * first is preceded by the top scale word, so 10^14 is "One Crore Crore".
+     */
+    private void appendLargeWords(Appendable out, BigDecimal amount) throws IOException {
+        String digits = amount.toPlainString();
+        int wholeLength = wholeLength(digits);
+        if (out instanceof StringBuilder) {
+            StringBuilder builder = (StringBuilder) out;
+            builder.ensureCapacity(builder.length() + (wholeLength / topScaleDigits + 1) * maxBlockChars + WORDS_INITIAL_CAPACITY);
+        }
+
+        boolean separate = false;
+        boolean hasTaka = false;
+        for (int blockEnd = firstBlockEnd(wholeLength); blockEnd <= wholeLength; blockEnd += topScaleDigits) {
+            if (hasTaka) {
+                separate = appendWord(out, separate, scaleWords[scaleWords.length - 1]);
+            }
+            long block = readBlock(digits, blockEnd);
+            if (block > 0) {
+                separate = appendTaka(out, block, separate);
+                hasTaka = true;
+            }
+        }
+        appendEnding(out, separate, hasTaka, readPaisa(digits, wholeLength));
+    }
+
+    /**
+     * The byte counterpart of {@link #appendLargeWords}.
+     */
+    private void encodeLargeWords(ByteBuffer out, BigDecimal amount) {
+        String digits = amount.toPlainString();
+        int wholeLength = wholeLength(digits);
+
+        boolean separate = false;
+        boolean hasTaka = false;
+        for (int blockEnd = firstBlockEnd(wholeLength); blockEnd <= wholeLength; blockEnd += topScaleDigits) {
+            if (hasTaka) {
+                separate = encodeWord(out, separate, scaleUtf8[scaleUtf8.length - 1]);
+            }
+            long block = readBlock(digits, blockEnd);
+            if (block > 0) {
+                separate = encodeTaka(out, block, separate);
+                hasTaka = true;
+            }
+        }
+        encodeEnding(out, separate, hasTaka, readPaisa(digits, wholeLength));
+    }
+
+    private static int wholeLength(String digits) {
+        int point = digits.indexOf('.');
+        return point < 0 ? digits.length() : point;
+    }
+
+    /**
+     * @return The end of the leading block, which holds whatever is left over from the full blocks
+     */
+    private int firstBlockEnd(int wholeLength) {
+        return (wholeLength - 1) % topScaleDigits + 1;
+    }
+
+    private long readBlock(String digits, int blockEnd) {
+        long block = 0;
+        for (int i = Math.max(0, blockEnd - topScaleDigits); i < blockEnd; i++) {
+            block = block * 10 + (digits.charAt(i) - '0');
+        }
+        return block;
+    }
+
+    /**
+     * @return The first two decimals as paisa; the rest are dropped
+     */
+    private static int readPaisa(String digits, int wholeLength) {
+        if (wholeLength + 1 >= digits.length()) {
+            return 0;
+        }
+        int paisa = (digits.charAt(wholeLength + 1) - '0') * 10;
+        return wholeLength + 2 < digits.length() ? paisa + digits.charAt(wholeLength + 2) - '0' : paisa;
+    }
+
+    private void appendEnding(Appendable out, boolean separate, boolean hasTaka, int paisaPart) throws IOException {
+        if (hasTaka) {
+            separate = appendWord(out, separate, currencyText);
+        }
+        if (paisaPart > 0) {
+            separate = appendWord(out, separate, numberWords[paisaPart]);
+            separate = appendWord(out, separate, subUnitText);
+        }
+        if (separate && onlyText != null) {
+            appendWord(out, true, onlyText);
+        }
+    }
+
+    /**
+     * Appends the words for a positive whole amount. Anything above the top scale is itself spelled out
+     * and followed by the top scale word, e.g. "One Crore Crore"; each lower scale takes one division and
+     * one table load for its group, and the last three digits one load from the pre-rendered segments.
+     *
+     * @return Whether the next word needs a separating space
+     */
+    private boolean appendTaka(Appendable out, long taka, boolean separate) throws IOException {
+        int top = scales.length - 1;
+        if (taka >= scales[top]) {
+            separate = appendTaka(out, taka / scales[top], separate);
+            separate = appendWord(out, separate, scaleWords[top]);
+            taka %= scales[top];
+        }
+
+        for (int i = top - 1; i >= 0; i--) {
+            int group = (int) (taka / scales[i]);
+            if (group > 0) {
+                separate = appendWord(out, separate, segmentWords[group]);
+                separate = appendWord(out, true, scaleWords[i]);
+                taka -= group * scales[i];
+            }
+        }
+
+        if (taka > 0) {
+            separate = appendWord(out, separate, segmentWords[(int) taka]);
+        }
+        return separate;
+    }
+
+    private void encodeEnding(ByteBuffer out, boolean separate, boolean hasTaka, int paisaPart) {
+        if (hasTaka) {
+            separate = encodeWord(out, separate, currencyUtf8);
+        }
+        if (paisaPart > 0) {
+            separate = encodeWord(out, separate, numberUtf8[paisaPart]);
+            separate = encodeWord(out, separate, subUnitUtf8);
+        }
+        if (separate && onlyUtf8 != null) {
+            encodeWord(out, true, onlyUtf8);
+        }
+    }
+
+    private static boolean appendWord(Appendable out, boolean separate, String word) throws IOException {
+        if (separate) {
+            out.append(' ');
+        }
+        out.append(word);
+        return true;
+    }
+
+    /**
+     * The byte counterpart of {@link #appendTaka}; the two must produce the same text.
+     */
+    private boolean encodeTaka(ByteBuffer out, long taka, boolean separate) {
+        int top = scales.length - 1;
+        if (taka >= scales[top]) {
+            separate = encodeTaka(out, taka / scales[top], separate);
+            separate = encodeWord(out, separate, scaleUtf8[top]);
+            taka %= scales[top];
+        }
+
+        for (int i = top - 1; i >= 0; i--) {
+            int group = (int) (taka / scales[i]);
+            if (group > 0) {
+                separate = encodeWord(out, separate, segmentUtf8[group]);
+                separate = encodeWord(out, true, scaleUtf8[i]);
+                taka -= group * scales[i];
+            }
+        }
+
+        if (taka > 0) {
+            separate = encodeWord(out, separate, segmentUtf8[(int) taka]);
+        }
+        return separate;
+    }
+
+    private static boolean encodeWord(ByteBuffer out, boolean separate, byte[] word) {
+        if (separate) {
+            out.put((byte) ' ');
+        }
+        out.put(word);
+        return true;
+    }
+
+    /**
+     * An upper bound on the text of one top-scale block and the top scale word after it, used to presize the
+     * buffer for amounts beyond the long range.
+     */
+    private static int maxBlockChars(String[] segmentWords, String[] scaleWords) {
+        int longestSegment = 0;
+        for (String segment : segmentWords) {
+            longestSegment = Math.max(longestSegment, segment.length());
+        }
+        int blockChars = longestSegment + 1;
+        for (String scaleWord : scaleWords) {
+            blockChars += longestSegment + scaleWord.length() + 2;
+        }
+        return blockChars;
+    }
+
+    /**
+     * Pre-renders every 0-999 segment, e.g. 999 as "নয় শত নিরানব্বই", so the part of an amount below a
+     * thousand is a single table load.
+     */
+    private static String[] createSegmentWords(String[] numberWords, String hundredWord) {
+        String[] segmentWords = new String[SEGMENT_COUNT];
+        for (int segment = 0; segment < segmentWords.length; segment++) {
+            int hundreds = segment / 100;
+            int units = segment % 100;
+            if (hundreds == 0) {
+                segmentWords[segment] = Objects.requireNonNull(numberWords[units], "number word");
+            } else {
+                // Built with a StringBuilder: the first string concatenation would bootstrap invokedynamic
+                StringBuilder words = new StringBuilder().append(numberWords[hundreds]).append(' ').append(hundredWord);
+                if (units != 0) {
+                    words.append(' ').append(numberWords[units]);
+                }
+                segmentWords[segment] = words.toString();
+            }
+        }
+        return segmentWords;
+    }
+
+    private static final class BanglaHolder {
+        static final NumberingFormat FORMAT = of(BuiltInNumberingSystem.bangla());
+    }
+
+    private static final class EnglishHolder {
+        static final NumberingFormat FORMAT = of(BuiltInNumberingSystem.english());
+    }
+
+    private static final class IndianEnglishHolder {
+        static final NumberingFormat FORMAT = of(BuiltInNumberingSystem.indianEnglish());
+    }
+
+    private static final class InternationalEnglishHolder {
+        static final NumberingFormat FORMAT = of(BuiltInNumberingSystem.internationalEnglish());
+    }
+
+    private static final class HindiHolder {
+        static final NumberingFormat FORMAT = of(BuiltInNumberingSystem.hindi());
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Describes how amounts are spelled and grouped in one language and currency, e.g. Bangla Taka with lakh
+ * and crore, or English with million and billion. Implement it to add a language, then compile it once with
+ * {@link NumberingFormat#of(NumberingSystem)} and keep the result; the built-in systems are available from the accessors of
+ * {@link NumberingFormat}.
+ * <p>
+ * The methods are only called while compiling, so they may build their arrays on each call.
+ */
+public interface NumberingSystem {
+    /**
+     * Where the scale words and the separating commas fall.
+     */
+    enum Grouping {
+        /**
+         * Hundred, thousand, lakh and crore; written 1,23,45,678.
+         */
+        INDIAN(1_000L, 100_000L, 10_000_000L),
+        /**
+         * Hundred, thousand, million, billion, trillion and quadrillion; written 12,345,678.
+         */
+        INTERNATIONAL(1_000L, 1_000_000L, 1_000_000_000L, 1_000_000_000_000L, 1_000_000_000_000_000L);
+
+        private final long[] scales;
+
+        Grouping(long... scales) {
+            this.scales = scales;
+        }
+
+        /**
+         * @return How many scale words above hundred the grouping uses, e.g. 3 for thousand, lakh and crore
+         */
+        public int scaleCount() {
+            return scales.length;
+        }
+
+        long scale(int index) {
+            return scales[index];
+        }
+    }
+
+    /**
+     * @return The words for 0 to 99, in order; compound numbers such as 21 are spelled out whole
+     */
+    String[] numberWords();
+
+    /**
+     * @return The hundred word followed by one word per scale of {@link #grouping()}, smallest first,
+     * e.g. Hundred, Thousand, Lakh, Crore
+     */
+    String[] scaleWords();
+
+    Grouping grouping();
+
+    /**
+     * @return The currency word that follows the whole part, e.g. "Taka"
+     */
+    String currencyText();
+
+    /**
+     * @return The word that follows the fraction, e.g. "Paisa"
+     */
+    String subUnitText();
+
+    /**
+     * @return The closing word, e.g. "Only", or an empty string for none
+     */
+    String onlyText();
+
+    /**
+     * @return The zero of the digit set, e.g. '০' for Bangla digits; the other nine must follow it
+     */
+    char zeroDigit();
+}
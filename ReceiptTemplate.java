@@ -0,0 +1,434 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A receipt or invoice template with amount and date placeholders, parsed once into literal segments and
+ * formatter steps. Rendering a record is then a single pass over the steps, written straight into a
+ * StringBuilder, another Appendable or a UTF-8 {@link ByteBuffer}, with no string-replace chain in between.
+ * <pre>
+ * ReceiptTemplate receipt = ReceiptTemplate.compile(
+ *         "Amount: {amount:comma:bn} ({amount:words:bn}) on {date:bn}", "amount", "date");
+ * String text = receipt.render(new BigDecimal("1500.50"), LocalDate.of(2024, 4, 14));
+ * </pre>
+ * The placeholders and what each writes:
+ * <ul>
+ *     <li>{@code {field:comma:bn}}: {@link TkInWord#formatToCommaSeparatedBanglaTk(BigDecimal)}</li>
+ *     <li>{@code {field:comma:en}}: {@link TkInWord#formatCommaSeperatedMoneyByLocale(BigDecimal, boolean)} in English</li>
+ *     <li>{@code {field:words:bn}}, {@code {field:words:en}}: {@link TkInWord#convertToTkInWordByLocale(BigDecimal, boolean)}</li>
+ *     <li>{@code {field:bn}}, {@code {field:en}}: the date as dd/MM/yyyy, as {@link DateUtils#getBanglaDate(LocalDate)}
+ *     and {@link DateUtils#getLocalizedDate(LocalDate, Locale)} in English write it</li>
+ *     <li>{@code {field:calendar:bn}}, {@code {field:calendar:en}}: {@link BanglaCalendar#formatDate(LocalDate, boolean)}</li>
+ *     <li>{@code {field}}: the value's {@code toString()}</li>
+ * </ul>
+ * Amounts are given as BigDecimal or {@link Money} and dates as LocalDate; a null value writes nothing. A Money
+ * is written as it was rounded when created, so {@code comma:bn} and {@code comma:en} then agree.
+ * Write {@code {{} and {@code }}} for literal braces.
+ * <p>
+ * A compiled template is immutable and can be shared between threads.
+ */
+public final class ReceiptTemplate {
+    private static final int SCRATCH_SIZE = Math.max(Math.max(CommaSeparatedFormatter.BUFFER_SIZE, DateRenderer.MAX_DATE_TIME_LENGTH),
+            BanglaCalendar.MAX_DATE_LENGTH);
+    private static final int ESTIMATED_PLACEHOLDER_LENGTH = 64;
+
+    private final String template;
+    private final int fieldCount;
+    private final Segment[] segments;
+    private final int estimatedLength;
+
+    private ReceiptTemplate(String template, int fieldCount, Segment[] segments) {
+        this.template = template;
+        this.fieldCount = fieldCount;
+        this.segments = segments;
+        int length = 0;
+        for (Segment segment : segments) {
+            length += segment instanceof Literal ? ((Literal) segment).text.length() : ESTIMATED_PLACEHOLDER_LENGTH;
+        }
+        this.estimatedLength = length;
+    }
+
+    /**
+     * Parses a template once, for rendering any number of records.
+     *
+     * @param template The text with placeholders, e.g. "Amount: {amount:comma:bn} on {date:bn}"
+     * @param fields   The field names in the order the values are passed to the render methods
+     * @throws IllegalArgumentException if a placeholder is malformed, unclosed or names an unknown field
+     */
+    public static ReceiptTemplate compile(String template, String... fields) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            if (c == '{' && i + 1 < template.length() && template.charAt(i + 1) == '{') {
+                literal.append('{');
+                i += 2;
+            } else if (c == '}' && i + 1 < template.length() && template.charAt(i + 1) == '}') {
+                literal.append('}');
+                i += 2;
+            } else if (c == '{') {
+                int end = template.indexOf('}', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unclosed placeholder at index " + i + " of template: " + template);
+                }
+                if (literal.length() > 0) {
+                    segments.add(new Literal(literal.toString()));
+                    literal.setLength(0);
+                }
+                segments.add(parsePlaceholder(template.substring(i, end + 1), fields));
+                i = end + 1;
+            } else if (c == '}') {
+                throw new IllegalArgumentException("Unmatched '}' at index " + i + " of template: " + template);
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        if (literal.length() > 0) {
+            segments.add(new Literal(literal.toString()));
+        }
+        return new ReceiptTemplate(template, fields.length, segments.toArray(new Segment[0]));
+    }
+
+    /**
+     * @param values One value per field, in the order given to {@link #compile(String, String...)}
+     * @return The filled-in template
+     */
+    public String render(Object... values) {
+        return append(new StringBuilder(estimatedLength), values).toString();
+    }
+
+    /**
+     * Writes the filled-in template into a caller-supplied buffer, e.g. one StringBuilder reused for every record.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public <A extends Appendable> A append(A out, Object... values) {
+        return appendRecord(out, values, new char[SCRATCH_SIZE]);
+    }
+
+    /**
+     * Writes the filled-in template into {@code out} as UTF-8. Literal segments are encoded once, at compile time.
+     *
+     * @param out A heap or direct buffer, written from its position onwards
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room
+     */
+    public ByteBuffer encode(ByteBuffer out, Object... values) {
+        return encodeRecord(out, values, new char[SCRATCH_SIZE]);
+    }
+
+    /**
+     * Renders a batch of records, reusing one builder and one scratch buffer for the whole batch.
+     *
+     * @param records One value array per record, each as passed to {@link #render(Object...)}
+     * @return The filled-in template for {@code records.get(i)} at index {@code i}
+     */
+    public List<String> renderAll(List<Object[]> records) {
+        char[] scratch = new char[SCRATCH_SIZE];
+        StringBuilder text = new StringBuilder(estimatedLength);
+        List<String> rendered = new ArrayList<>(records.size());
+        for (Object[] values : records) {
+            text.setLength(0);
+            rendered.add(appendRecord(text, values, scratch).toString());
+        }
+        return rendered;
+    }
+
+    /**
+     * Writes a batch of records into {@code out} as UTF-8, each followed by {@code separator}.
+     *
+     * @param separator Written after every record, e.g. "\n"
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room; what was written so far is kept
+     */
+    public ByteBuffer encodeAll(ByteBuffer out, List<Object[]> records, String separator) {
+        char[] scratch = new char[SCRATCH_SIZE];
+        byte[] separatorBytes = Utf8.encode(separator);
+        for (Object[] values : records) {
+            encodeRecord(out, values, scratch).put(separatorBytes);
+        }
+        return out;
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    private <A extends Appendable> A appendRecord(A out, Object[] values, char[] scratch) {
+        checkValues(values);
+        try {
+            for (Segment segment : segments) {
+                segment.append(out, segment.field < 0 ? null : values[segment.field], scratch);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    private ByteBuffer encodeRecord(ByteBuffer out, Object[] values, char[] scratch) {
+        checkValues(values);
+        for (Segment segment : segments) {
+            segment.encode(out, segment.field < 0 ? null : values[segment.field], scratch);
+        }
+        return out;
+    }
+
+    private void checkValues(Object[] values) {
+        if (values.length != fieldCount) {
+            throw new IllegalArgumentException("Template expects " + fieldCount + " values but " + values.length + " were given: " + template);
+        }
+    }
+
+    private static Segment parsePlaceholder(String placeholder, String[] fields) {
+        String[] parts = placeholder.substring(1, placeholder.length() - 1).split(":", -1);
+        int field = Arrays.asList(fields).indexOf(parts[0]);
+        if (field < 0) {
+            throw new IllegalArgumentException("Unknown field in placeholder " + placeholder + "; fields are " + Arrays.toString(fields));
+        }
+        if (parts.length == 1) {
+            return new Text(placeholder, field);
+        }
+        String language = parts[parts.length - 1];
+        if (parts.length > 3 || !language.equals("bn") && !language.equals("en")) {
+            throw new IllegalArgumentException("Malformed placeholder " + placeholder + "; expected {field}, {field:bn|en} or {field:comma|words|calendar:bn|en}");
+        }
+        boolean isBangla = language.equals("bn");
+        if (parts.length == 2) {
+            return new GregorianDate(placeholder, field, isBangla ? DateUtils.BANGLA_LOCALE : Locale.ENGLISH);
+        }
+        switch (parts[1]) {
+            case "comma":
+                return isBangla
+                        ? new CommaMoney(placeholder, field, RoundingMode.CEILING, CommaSeparatedFormatter.Style.BANGLA)
+                        : new CommaMoney(placeholder, field, RoundingMode.HALF_UP, CommaSeparatedFormatter.Style.WESTERN);
+            case "words":
+                return new Words(placeholder, field, isBangla ? NumberingFormat.bangla() : NumberingFormat.english());
+            case "calendar":
+                return new CalendarDate(placeholder, field, isBangla);
+            default:
+                throw new IllegalArgumentException("Unknown format in placeholder " + placeholder + "; expected comma, words or calendar");
+        }
+    }
+
+    private static void appendChars(Appendable out, char[] chars, int from, int to) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(chars, from, to - from);
+        } else {
+            for (int i = from; i < to; i++) {
+                out.append(chars[i]);
+            }
+        }
+    }
+
+    /**
+     * One step of a compiled template: a literal, or a formatter for the value of one field.
+     */
+    private abstract static class Segment {
+        final String placeholder;
+        final int field;
+
+        Segment(String placeholder, int field) {
+            this.placeholder = placeholder;
+            this.field = field;
+        }
+
+        /**
+         * @param scratch A buffer of {@link #SCRATCH_SIZE} chars that the step may overwrite
+         */
+        abstract void append(Appendable out, Object value, char[] scratch) throws IOException;
+
+        abstract void encode(ByteBuffer out, Object value, char[] scratch);
+
+        <T> T cast(Object value, Class<T> type) {
+            if (!type.isInstance(value)) {
+                throw new IllegalArgumentException(placeholder + " needs a " + type.getSimpleName() + " but got " + value.getClass().getName());
+            }
+            return type.cast(value);
+        }
+    }
+
+    private static final class Literal extends Segment {
+        private final String text;
+        private final byte[] utf8;
+
+        Literal(String text) {
+            super(null, -1);
+            this.text = text;
+            this.utf8 = Utf8.encode(text);
+        }
+
+        @Override
+        void append(Appendable out, Object value, char[] scratch) throws IOException {
+            out.append(text);
+        }
+
+        @Override
+        void encode(ByteBuffer out, Object value, char[] scratch) {
+            out.put(utf8);
+        }
+    }
+
+    private static final class Text extends Segment {
+        Text(String placeholder, int field) {
+            super(placeholder, field);
+        }
+
+        @Override
+        void append(Appendable out, Object value, char[] scratch) throws IOException {
+            if (value != null) {
+                out.append(value.toString());
+            }
+        }
+
+        @Override
+        void encode(ByteBuffer out, Object value, char[] scratch) {
+            if (value != null) {
+                Utf8.put(out, value.toString());
+            }
+        }
+    }
+
+    private static final class CommaMoney extends Segment {
+        private final RoundingMode roundingMode;
+        private final CommaSeparatedFormatter.Style style;
+
+        CommaMoney(String placeholder, int field, RoundingMode roundingMode, CommaSeparatedFormatter.Style style) {
+            super(placeholder, field);
+            this.roundingMode = roundingMode;
+            this.style = style;
+        }
+
+        @Override
+        void append(Appendable out, Object value, char[] scratch) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (value instanceof Money) {
+                long paisa = ((Money) value).getPaisa();
+                if (paisa == CommaSeparatedFormatter.DOES_NOT_FIT) {
+                    CommaSeparatedFormatter.appendPaisa(out, paisa, style);
+                } else {
+                    appendChars(out, scratch, CommaSeparatedFormatter.write(scratch, paisa, 2, false, style), scratch.length);
+                }
+                return;
+            }
+            BigDecimal amount = cast(value, BigDecimal.class);
+            int from = CommaSeparatedFormatter.render(scratch, amount, 2, roundingMode, false, style);
+            if (from < 0) {
+                CommaSeparatedFormatter.append(out, amount, 2, roundingMode, false, style);
+            } else {
+                appendChars(out, scratch, from, scratch.length);
+            }
+        }
+
+        @Override
+        void encode(ByteBuffer out, Object value, char[] scratch) {
+            if (value == null) {
+                return;
+            }
+            if (value instanceof Money) {
+                long paisa = ((Money) value).getPaisa();
+                if (paisa == CommaSeparatedFormatter.DOES_NOT_FIT) {
+                    CommaSeparatedFormatter.encodePaisa(out, paisa, style);
+                } else {
+                    Utf8.put(out, scratch, CommaSeparatedFormatter.write(scratch, paisa, 2, false, style), scratch.length);
+                }
+                return;
+            }
+            BigDecimal amount = cast(value, BigDecimal.class);
+            int from = CommaSeparatedFormatter.render(scratch, amount, 2, roundingMode, false, style);
+            if (from < 0) {
+                CommaSeparatedFormatter.encode(out, amount, 2, roundingMode, false, style);
+            } else {
+                Utf8.put(out, scratch, from, scratch.length);
+            }
+        }
+    }
+
+    private static final class Words extends Segment {
+        private final NumberingFormat format;
+
+        Words(String placeholder, int field, NumberingFormat format) {
+            super(placeholder, field);
+            this.format = format;
+        }
+
+        @Override
+        void append(Appendable out, Object value, char[] scratch) {
+            if (value instanceof Money) {
+                format.appendWords(out, (Money) value);
+            } else if (value != null) {
+                format.appendWords(out, cast(value, BigDecimal.class));
+            }
+        }
+
+        @Override
+        void encode(ByteBuffer out, Object value, char[] scratch) {
+            if (value instanceof Money) {
+                format.encodeWords(out, (Money) value);
+            } else if (value != null) {
+                format.encodeWords(out, cast(value, BigDecimal.class));
+            }
+        }
+    }
+
+    private static final class GregorianDate extends Segment {
+        private final Locale locale;
+
+        GregorianDate(String placeholder, int field, Locale locale) {
+            super(placeholder, field);
+            this.locale = locale;
+        }
+
+        @Override
+        void append(Appendable out, Object value, char[] scratch) throws IOException {
+            if (value != null) {
+                appendChars(out, scratch, 0, DateRenderer.renderDate(scratch, 0, cast(value, LocalDate.class), locale));
+            }
+        }
+
+        @Override
+        void encode(ByteBuffer out, Object value, char[] scratch) {
+            if (value != null) {
+                Utf8.put(out, scratch, 0, DateRenderer.renderDate(scratch, 0, cast(value, LocalDate.class), locale));
+            }
+        }
+    }
+
+    private static final class CalendarDate extends Segment {
+        private final boolean isBangla;
+
+        CalendarDate(String placeholder, int field, boolean isBangla) {
+            super(placeholder, field);
+            this.isBangla = isBangla;
+        }
+
+        @Override
+        void append(Appendable out, Object value, char[] scratch) throws IOException {
+            if (value != null) {
+                long epochDay = cast(value, LocalDate.class).toEpochDay();
+                appendChars(out, scratch, 0, BanglaCalendar.renderDate(scratch, 0, epochDay, isBangla));
+            }
+        }
+
+        @Override
+        void encode(ByteBuffer out, Object value, char[] scratch) {
+            if (value != null) {
+                long epochDay = cast(value, LocalDate.class).toEpochDay();
+                Utf8.put(out, scratch, 0, BanglaCalendar.renderDate(scratch, 0, epochDay, isBangla));
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A size-bounded, thread-safe cache of conversion results with segmented LRU eviction.
+ * <p>
+ * New entries land in a small probation segment and are promoted to the protected segment on their
+ * second hit, so a burst of one-off amounts cannot flush the fees and installments that repeat all day.
+ * The cache is split into independently locked stripes to keep contention low.
+ *
+ * @param <K> The key, e.g. the amount being converted
+ * @param <V> The cached result
+ */
+public class ResultCache<K, V> {
+    private static final int STRIPE_COUNT = 16;
+    private static final int PROTECTED_PERCENT = 80;
+
+    private final Stripe<K, V>[] stripes;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final ConversionListener.Operation operation;
+    private final boolean isBangla;
+
+    /**
+     * @param maximumSize The most entries the cache holds at once
+     */
+    public ResultCache(int maximumSize) {
+        this(maximumSize, null, false);
+    }
+
+    /**
+     * A cache that also reports its hits and misses to the installed {@link ConversionListener}.
+     *
+     * @param operation The conversion whose results are cached, or null to report nothing
+     */
+    ResultCache(int maximumSize, ConversionListener.Operation operation, boolean isBangla) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+
+        // Hand the remainder out one entry per stripe, so the stripes add up to exactly maximumSize
+        int stripeCount = Math.min(STRIPE_COUNT, Integer.highestOneBit(maximumSize));
+        int stripeSize = maximumSize / stripeCount;
+        int remainder = maximumSize % stripeCount;
+        stripes = newStripes(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>(i < remainder ? stripeSize + 1 : stripeSize, evictionCount);
+        }
+        this.operation = operation;
+        this.isBangla = isBangla;
+    }
+
+    /**
+     * Returns the cached result for {@code key}, computing and caching it with {@code loader} on a miss.
+     * The loader runs outside the cache lock, so two threads missing on the same key may both compute it.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Stripe<K, V> stripe = stripeFor(key);
+
+        V value;
+        synchronized (stripe) {
+            value = stripe.get(key);
+        }
+        if (value != null) {
+            hitCount.increment();
+            report(ConversionListener.Event.CACHE_HIT);
+            return value;
+        }
+
+        missCount.increment();
+        report(ConversionListener.Event.CACHE_MISS);
+        value = loader.apply(key);
+        if (value != null) {
+            synchronized (stripe) {
+                stripe.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private void report(ConversionListener.Event event) {
+        if (operation != null) {
+            Instrumentation.event(operation, isBangla, event);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <K, V> Stripe<K, V>[] newStripes(int stripeCount) {
+        return new Stripe[stripeCount];
+    }
+
+    private Stripe<K, V> stripeFor(K key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return stripes[hash & (stripes.length - 1)];
+    }
+
+    /**
+     * One lock's worth of the cache: a probation LRU for entries seen once and a protected LRU for
+     * entries seen again. Both maps keep their least recently used entry first.
+     */
+    private static final class Stripe<K, V> {
+        private final int protectedCapacity;
+        private final int probationCapacity;
+        private final LinkedHashMap<K, V> probation = new LinkedHashMap<>();
+        private final LinkedHashMap<K, V> protectedEntries = new LinkedHashMap<>(16, 0.75f, true);
+        private final LongAdder evictionCount;
+
+        Stripe(int capacity, LongAdder evictionCount) {
+            this.protectedCapacity = capacity * PROTECTED_PERCENT / 100;
+            this.probationCapacity = Math.max(1, capacity - protectedCapacity);
+            this.evictionCount = evictionCount;
+        }
+
+        V get(K key) {
+            V value = protectedEntries.get(key);
+            if (value != null) {
+                return value;
+            }
+
+            value = probation.remove(key);
+            if (value != null) {
+                promote(key, value);
+            }
+            return value;
+        }
+
+        void put(K key, V value) {
+            if (protectedEntries.containsKey(key) || probation.containsKey(key)) {
+                return;
+            }
+            probation.put(key, value);
+            trimProbation();
+        }
+
+        int size() {
+            return probation.size() + protectedEntries.size();
+        }
+
+        private void promote(K key, V value) {
+            if (protectedCapacity == 0) {
+                probation.put(key, value);
+                return;
+            }
+
+            protectedEntries.put(key, value);
+            if (protectedEntries.size() > protectedCapacity) {
+                Iterator<Map.Entry<K, V>> eldest = protectedEntries.entrySet().iterator();
+                Map.Entry<K, V> demoted = eldest.next();
+                eldest.remove();
+                probation.put(demoted.getKey(), demoted.getValue());
+                trimProbation();
+            }
+        }
+
+        private void trimProbation() {
+            Iterator<K> eldest = probation.keySet().iterator();
+            while (probation.size() > probationCapacity) {
+                eldest.next();
+                eldest.remove();
+                evictionCount.increment();
+            }
+        }
+    }
+}
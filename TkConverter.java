@@ -0,0 +1,280 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+
+/**
+ * A converter for hot loops on one thread. It is configured once and owns the scratch buffers that the
+ * static methods of {@link TkInWord} and {@link EnglishNumberToCommaSeparatedBanglaTk} allocate on every call,
+ * so once warmed up a conversion allocates nothing but the String it returns; the append and encode methods
+ * allocate nothing at all.
+ * <p>
+ * Instances are not thread-safe. Keep one per thread, either from {@link #forCurrentThread(boolean)}, which
+ * matches the {@code isBangla} methods of {@link TkInWord}, or from a {@link ThreadLocal} made by
+ * {@link #perThread(NumberingFormat, RoundingMode)}. A virtual thread gets a converter of its own, which only
+ * pays off if it converts more than a handful of amounts; short tasks can simply use the static methods.
+ * <pre>
+ * TkConverter converter = TkConverter.of(NumberingFormat.bangla(), RoundingMode.CEILING);
+ * for (Transaction t : transactions) {
+ *     row.words = converter.toWords(t.paisa());        // same as TkInWord.convertToTkInWordByLocale(paisa, true)
+ *     row.money = converter.formatMoney(t.amount());   // same as TkInWord.formatToCommaSeparatedBanglaTk(amount)
+ * }
+ * </pre>
+ */
+public final class TkConverter {
+    private static final int MONEY_FRACTION_DIGITS = 2;
+    private static final int WORDS_INITIAL_CAPACITY = 256;
+
+    private static final ThreadLocal<TkConverter> BANGLA = ThreadLocal.withInitial(() -> byLocale(true));
+    private static final ThreadLocal<TkConverter> ENGLISH = ThreadLocal.withInitial(() -> byLocale(false));
+
+    private final NumberingFormat wordsFormat;
+    private final CommaSeparatedFormatter.Style moneyStyle;
+    private final boolean isMoneyBangla;
+    private final RoundingMode roundingMode;
+    private final StringBuilder words = new StringBuilder(WORDS_INITIAL_CAPACITY);
+    private final char[] money = new char[CommaSeparatedFormatter.BUFFER_SIZE];
+
+    private TkConverter(NumberingFormat wordsFormat, NumberingFormat moneyFormat, RoundingMode roundingMode) {
+        if (roundingMode == null) {
+            throw new NullPointerException("roundingMode");
+        }
+        this.wordsFormat = wordsFormat;
+        this.moneyStyle = moneyFormat.style();
+        this.isMoneyBangla = moneyFormat.isBangla();
+        this.roundingMode = roundingMode;
+    }
+
+    /**
+     * A new converter writing words and money in {@code format}.
+     *
+     * @param roundingMode How money is rounded to two decimals, e.g. {@link RoundingMode#CEILING} as
+     *                     {@link TkInWord#formatToCommaSeparatedBanglaTk(BigDecimal)} does
+     */
+    public static TkConverter of(NumberingFormat format, RoundingMode roundingMode) {
+        return new TkConverter(format, format, roundingMode);
+    }
+
+    /**
+     * The calling thread's converter with the output of {@link TkInWord}'s {@code isBangla} methods: the words
+     * of {@link TkInWord#convertToTkInWordByLocale(BigDecimal, boolean)} and the money of
+     * {@link TkInWord#formatCommaSeperatedMoneyByLocale(BigDecimal, boolean)}.
+     */
+    public static TkConverter forCurrentThread(boolean isBangla) {
+        return (isBangla ? BANGLA : ENGLISH).get();
+    }
+
+    /**
+     * A new converter with the output of {@link #forCurrentThread(boolean)}, for callers that manage their own.
+     */
+    static TkConverter byLocale(boolean isBangla) {
+        return isBangla
+                ? new TkConverter(NumberingFormat.bangla(), NumberingFormat.bangla(), RoundingMode.HALF_UP)
+                : new TkConverter(NumberingFormat.english(), NumberingFormat.internationalEnglish(), RoundingMode.HALF_UP);
+    }
+
+    /**
+     * A {@link ThreadLocal} that gives each thread its own converter, for sharing one configuration across a pool.
+     *
+     * @see #of(NumberingFormat, RoundingMode)
+     */
+    public static ThreadLocal<TkConverter> perThread(NumberingFormat format, RoundingMode roundingMode) {
+        if (format == null || roundingMode == null) {
+            throw new NullPointerException(format == null ? "format" : "roundingMode");
+        }
+        return ThreadLocal.withInitial(() -> of(format, roundingMode));
+    }
+
+    /**
+     * @return The amount in words, as {@link NumberingFormat#toWords(BigDecimal)} writes it, or null for null
+     */
+    public String toWords(BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+        long start = Instrumentation.start();
+        words.setLength(0);
+        String converted = wordsFormat.appendWords(words, amount).toString();
+        Instrumentation.record(ConversionListener.Operation.WORDS, wordsFormat.isBangla(), start);
+        return converted;
+    }
+
+    /**
+     * @param paisa The amount in paisa (1 Taka = 100 Paisa)
+     * @return The amount in words, as {@link NumberingFormat#toWords(long)} writes it
+     */
+    public String toWords(long paisa) {
+        long start = Instrumentation.start();
+        words.setLength(0);
+        String converted = wordsFormat.appendWords(words, paisa).toString();
+        Instrumentation.record(ConversionListener.Operation.WORDS, wordsFormat.isBangla(), start);
+        return converted;
+    }
+
+    /**
+     * @return The amount in words, as {@link NumberingFormat#toWords(Money)} writes it, or null for null
+     */
+    public String toWords(Money amount) {
+        return amount == null ? null : toWords(amount.getPaisa());
+    }
+
+    /**
+     * Writes the output of {@link #toWords(BigDecimal)} into a caller-supplied buffer. Nothing is written when
+     * the amount is null.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public <A extends Appendable> A appendWords(A out, BigDecimal amount) {
+        return wordsFormat.appendWords(out, amount);
+    }
+
+    /**
+     * Writes the output of {@link #toWords(Money)} into a caller-supplied buffer. Nothing is written when the
+     * amount is null.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public <A extends Appendable> A appendWords(A out, Money amount) {
+        return wordsFormat.appendWords(out, amount);
+    }
+
+    /**
+     * Formats an amount as comma separated money with two decimals, e.g. "৩,১৩,১২৩.২১".
+     *
+     * @return The formatted amount, or null for null
+     */
+    public String formatMoney(BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+        long start = Instrumentation.start();
+        int from = CommaSeparatedFormatter.render(money, amount, MONEY_FRACTION_DIGITS, roundingMode, false, moneyStyle);
+        String formatted;
+        if (from < 0) {
+            // Emits FALLBACK; the timing is recorded below, once, as on the fast path
+            formatted = CommaSeparatedFormatter.append(new StringBuilder(), amount, MONEY_FRACTION_DIGITS, roundingMode, false, moneyStyle).toString();
+        } else {
+            formatted = new String(money, from, money.length - from);
+        }
+        Instrumentation.record(ConversionListener.Operation.COMMA_SEPARATED, isMoneyBangla, start);
+        return formatted;
+    }
+
+    /**
+     * @param paisa The amount in paisa (1 Taka = 100 Paisa)
+     * @return The amount as comma separated money with two decimals
+     */
+    public String formatMoney(long paisa) {
+        long start = Instrumentation.start();
+        String formatted;
+        if (paisa == CommaSeparatedFormatter.DOES_NOT_FIT) {
+            formatted = CommaSeparatedFormatter.append(new StringBuilder(), BigDecimal.valueOf(paisa, MONEY_FRACTION_DIGITS), MONEY_FRACTION_DIGITS, RoundingMode.UNNECESSARY, false, moneyStyle).toString();
+        } else {
+            int from = CommaSeparatedFormatter.write(money, paisa, MONEY_FRACTION_DIGITS, false, moneyStyle);
+            formatted = new String(money, from, money.length - from);
+        }
+        Instrumentation.record(ConversionListener.Operation.COMMA_SEPARATED, isMoneyBangla, start);
+        return formatted;
+    }
+
+    /**
+     * Formats an amount as comma separated money with two decimals. The converter's rounding mode does not
+     * apply; the Money was rounded when it was created.
+     *
+     * @return The formatted amount, or null for null
+     */
+    public String formatMoney(Money amount) {
+        return amount == null ? null : formatMoney(amount.getPaisa());
+    }
+
+    /**
+     * Writes the output of {@link #formatMoney(BigDecimal)} into a caller-supplied buffer. Nothing is written
+     * when the amount is null.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public <A extends Appendable> A appendMoney(A out, BigDecimal amount) {
+        if (amount == null) {
+            return out;
+        }
+        int from = CommaSeparatedFormatter.render(money, amount, MONEY_FRACTION_DIGITS, roundingMode, false, moneyStyle);
+        if (from < 0) {
+            return CommaSeparatedFormatter.append(out, amount, MONEY_FRACTION_DIGITS, roundingMode, false, moneyStyle);
+        }
+        return appendChars(out, from);
+    }
+
+    /**
+     * Writes the output of {@link #formatMoney(Money)} into a caller-supplied buffer. Nothing is written when
+     * the amount is null.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public <A extends Appendable> A appendMoney(A out, Money amount) {
+        if (amount == null) {
+            return out;
+        }
+        if (amount.getPaisa() == CommaSeparatedFormatter.DOES_NOT_FIT) {
+            return CommaSeparatedFormatter.appendPaisa(out, amount.getPaisa(), moneyStyle);
+        }
+        return appendChars(out, CommaSeparatedFormatter.write(money, amount.getPaisa(), MONEY_FRACTION_DIGITS, false, moneyStyle));
+    }
+
+    /**
+     * Writes the output of {@link #formatMoney(BigDecimal)} into {@code out} as UTF-8. Nothing is written when
+     * the amount is null.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room
+     */
+    public ByteBuffer encodeMoney(ByteBuffer out, BigDecimal amount) {
+        if (amount == null) {
+            return out;
+        }
+        int from = CommaSeparatedFormatter.render(money, amount, MONEY_FRACTION_DIGITS, roundingMode, false, moneyStyle);
+        if (from < 0) {
+            return CommaSeparatedFormatter.encode(out, amount, MONEY_FRACTION_DIGITS, roundingMode, false, moneyStyle);
+        }
+        Utf8.put(out, money, from, money.length);
+        return out;
+    }
+
+    /**
+     * Writes the output of {@link #formatMoney(Money)} into {@code out} as UTF-8. Nothing is written when the
+     * amount is null.
+     *
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room
+     */
+    public ByteBuffer encodeMoney(ByteBuffer out, Money amount) {
+        if (amount == null) {
+            return out;
+        }
+        if (amount.getPaisa() == CommaSeparatedFormatter.DOES_NOT_FIT) {
+            return CommaSeparatedFormatter.encodePaisa(out, amount.getPaisa(), moneyStyle);
+        }
+        int from = CommaSeparatedFormatter.write(money, amount.getPaisa(), MONEY_FRACTION_DIGITS, false, moneyStyle);
+        Utf8.put(out, money, from, money.length);
+        return out;
+    }
+
+    private <A extends Appendable> A appendChars(A out, int from) {
+        try {
+            if (out instanceof StringBuilder) {
+                ((StringBuilder) out).append(money, from, money.length - from);
+            } else {
+                for (int i = from; i < money.length; i++) {
+                    out.append(money[i]);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+}
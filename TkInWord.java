@@ -1,174 +1,403 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.text.NumberFormat;
-import java.util.HashMap;
-import java.util.Locale;
-import java.util.Map;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class TkInWord {
 //    private static final Logger logger = LogManager.getLogger(MoneyUtils.class);
 
-    private static final Map<String, String> DIGIT_TO_BANGLA_TEXT_MAP = createEnglishDigitToBanglaTextMap();
-    private static final Map<String, String> DIGIT_TO_ENGLISH_TEXT_MAP = createEnglishDigitToEnglishTextMap();
-    private static final Map<Integer, String> ENGLISH_TK_GROUP_MAP = createEnglishTkGroupMap();
-    private static final Map<Integer, String> BANGLA_TK_GROUP_MAP = createBanglaTkGroupMap();
+    static final int CRORE_POSITION = 5;
+    static final int LAKH_POSITION = 3;
+    static final int THOUSAND_POSITION = 1;
+    static final int HUNDRED_POSITION = 0;
 
-    private static final int CRORE_POSITION = 5;
-    private static final int LAKH_POSITION = 3;
-    private static final int THOUSAND_POSITION = 1;
-    private static final int HUNDRED_POSITION = 0;
-    private static final int UNIT_POSITION = -2;
 
-    private static final String ENGLISH_TAKA_TEXT = " Taka ";
-    private static final String ENGLISH_PAISA_TEXT = " Paisa ";
-    private static final String ENGLISH_ONLY_TEXT = "Only";
-    private static final String BANGLA_TAKA_TEXT = " টাকা ";
-    private static final String BANGLA_PAISA_TEXT = " পয়সা ";
-    private static final String BANGLA_ONLY_TEXT = "মাত্র";
+    static final String ENGLISH_TAKA_TEXT = "Taka";
+    static final String ENGLISH_PAISA_TEXT = "Paisa";
+    static final String ENGLISH_ONLY_TEXT = "Only";
+    static final String BANGLA_TAKA_TEXT = "টাকা";
+    static final String BANGLA_PAISA_TEXT = "পয়সা";
+    static final String BANGLA_ONLY_TEXT = "মাত্র";
+
+    private static final int WORDS_INITIAL_CAPACITY = 128;
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 8_192;
+    private static final int MIN_CHUNK_SIZE = 1_024;
 
     public static String convertToTkInWordByLocale(BigDecimal amount, boolean isBangla) {
-        return isBangla ? convertToTkInWord(amount, BANGLA_TK_GROUP_MAP, DIGIT_TO_BANGLA_TEXT_MAP, BANGLA_TAKA_TEXT, BANGLA_PAISA_TEXT, BANGLA_ONLY_TEXT)
-                : convertToTkInWord(amount, ENGLISH_TK_GROUP_MAP, DIGIT_TO_ENGLISH_TEXT_MAP, ENGLISH_TAKA_TEXT, ENGLISH_PAISA_TEXT, ENGLISH_ONLY_TEXT);
+        long start = Instrumentation.start();
+        String words = convertToTkInWord(amount, isBangla);
+        Instrumentation.record(ConversionListener.Operation.WORDS, isBangla, start);
+        return words;
+    }
+
+    /**
+     * Converts an amount given as a whole number of paisa to words, e.g. 12345 paisa
+     * becomes "One Hundred Twenty Three Taka Forty Five Paisa Only".
+     * The words come from {@link NumberingFormat#bangla()} or {@link NumberingFormat#english()};
+     * {@link NumberingFormat} has the other languages.
+     *
+     * @param paisa    The amount in paisa (1 Taka = 100 Paisa)
+     * @param isBangla True for Bangla words; false for English
+     * @return The amount in words, an empty string for zero, or the plain amount if it is negative
+     */
+    public static String convertToTkInWordByLocale(long paisa, boolean isBangla) {
+        return words(isBangla).toWords(paisa);
     }
 
-    private static String convertToTkInWord(BigDecimal amount, Map<Integer, String> groupMap, Map<String, String> digitToTextMap, String takaText, String paisaText, String onlyText) {
+    /**
+     * Converts an amount to words without rounding; the Money was rounded when it was created.
+     *
+     * @param amount   The amount to convert
+     * @param isBangla True for Bangla words; false for English
+     * @return The amount in words, an empty string for zero, the plain amount if it is negative, or null for null
+     */
+    public static String convertToTkInWordByLocale(Money amount, boolean isBangla) {
+        return words(isBangla).toWords(amount);
+    }
+
+    /**
+     * Writes the words for an amount into a caller-supplied buffer instead of returning a new String.
+     * Nothing is written when the amount is null.
+     *
+     * @param out      The StringBuilder, CharBuffer or other Appendable to write into
+     * @param amount   The amount to convert
+     * @param isBangla True for Bangla words; false for English
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendTkInWordByLocale(A out, BigDecimal amount, boolean isBangla) {
         if (amount == null) {
-            return null;
+            return out;
         }
-        String formattedAmount = amount.toString();
-        StringBuilder result = new StringBuilder();
-        String[] parts = formattedAmount.split("\\.");
-        String integerPart = parts[0];
 
-        try {
-            String integerPartString = convertIntegerPart(integerPart, groupMap, digitToTextMap);
+        long paisa = amount.signum() < 0 ? -1 : toPaisa(amount);
+        if (paisa < 0) {
+            return append(out, convertToTkInWordByLocale(amount, isBangla));
+        }
+        return words(isBangla).appendWords(out, paisa);
+    }
 
-            if (!digitToTextMap.get("0").contentEquals(integerPartString)) {
-                result.append(integerPartString);
-                result.append(takaText);
-            }
+    /**
+     * Writes the words for an amount in paisa into a caller-supplied buffer instead of returning a new String.
+     *
+     * @param out      The StringBuilder, CharBuffer or other Appendable to write into
+     * @param paisa    The amount in paisa (1 Taka = 100 Paisa)
+     * @param isBangla True for Bangla words; false for English
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendTkInWordByLocale(A out, long paisa, boolean isBangla) {
+        return words(isBangla).appendWords(out, paisa);
+    }
 
-            if (parts.length > 1) {
-                String decimalPart = parts[1];
-                String decimalPartString = convertDecimalPart(decimalPart, digitToTextMap);
-                if (!digitToTextMap.get("0").contentEquals(decimalPartString)) {
-                    result.append(decimalPartString);
-                    result.append(paisaText);
-                }
-            }
+    /**
+     * Writes the output of {@link #convertToTkInWordByLocale(Money, boolean)} into a caller-supplied buffer.
+     * Nothing is written when the amount is null.
+     *
+     * @param out      The StringBuilder, CharBuffer or other Appendable to write into
+     * @param amount   The amount to convert
+     * @param isBangla True for Bangla words; false for English
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendTkInWordByLocale(A out, Money amount, boolean isBangla) {
+        return words(isBangla).appendWords(out, amount);
+    }
 
-            if (!result.isEmpty()) {
-                result.append(onlyText);
-            }
-        } catch (Exception e) {
-//            logger.error("Error converting amount to words for amount: {}", amount, e);
-            return formattedAmount;
+    /**
+     * Writes the words for an amount into {@code out} as UTF-8, for responses and documents that are
+     * assembled as bytes. Every word is copied from a table encoded once, so no String or char data is
+     * produced along the way. Nothing is written when the amount is null.
+     *
+     * @param out      A heap or direct buffer, written from its position onwards
+     * @param amount   The amount to convert
+     * @param isBangla True for Bangla words; false for English
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room; what was written so far is kept
+     */
+    public static ByteBuffer encodeTkInWordByLocale(ByteBuffer out, BigDecimal amount, boolean isBangla) {
+        if (amount == null) {
+            return out;
         }
 
-        return removeRedundantSpace(result.toString());
+        long paisa = amount.signum() < 0 ? -1 : toPaisa(amount);
+        if (paisa < 0) {
+            Utf8.put(out, convertToTkInWordByLocale(amount, isBangla));
+            return out;
+        }
+        return words(isBangla).encodeWords(out, paisa);
     }
 
+    /**
+     * Writes the words for an amount in paisa into {@code out} as UTF-8.
+     *
+     * @param out      A heap or direct buffer, written from its position onwards
+     * @param paisa    The amount in paisa (1 Taka = 100 Paisa)
+     * @param isBangla True for Bangla words; false for English
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room; what was written so far is kept
+     */
+    public static ByteBuffer encodeTkInWordByLocale(ByteBuffer out, long paisa, boolean isBangla) {
+        return words(isBangla).encodeWords(out, paisa);
+    }
 
-    private static String convertIntegerPart(String integerPart, Map<Integer, String> groupMap, Map<String, String> digitToTextMap) {
-        StringBuilder result = new StringBuilder();
-        StringBuilder tempString = new StringBuilder();
+    /**
+     * Writes the output of {@link #convertToTkInWordByLocale(Money, boolean)} into {@code out} as UTF-8.
+     * Nothing is written when the amount is null.
+     *
+     * @param out      A heap or direct buffer, written from its position onwards
+     * @param amount   The amount to convert
+     * @param isBangla True for Bangla words; false for English
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room; what was written so far is kept
+     */
+    public static ByteBuffer encodeTkInWordByLocale(ByteBuffer out, Money amount, boolean isBangla) {
+        return words(isBangla).encodeWords(out, amount);
+    }
 
-        for (int i = 0; i < integerPart.length(); i++) {
-            char digitChar = integerPart.charAt(i);
+    /**
+     * Converts a batch of paisa amounts to words, filling {@code out} index by index.
+     * Batches of {@value #DEFAULT_PARALLEL_THRESHOLD} or more amounts are split across the common ForkJoinPool.
+     *
+     * @param paisa    The amounts in paisa
+     * @param isBangla True for Bangla words; false for English
+     * @param out      Receives the words for {@code paisa[i]} at index {@code i}; must be at least as long as {@code paisa}
+     */
+    public static void convertAll(long[] paisa, boolean isBangla, String[] out) {
+        convertAll(paisa, isBangla, out, DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+    }
 
-            int positionFromRight = integerPart.length() - 1 - i;
-            int positionInGroup = positionFromRight < 9 ? positionFromRight - 2 : (positionFromRight - 2) % 7;
+    /**
+     * Converts a batch of paisa amounts to words, splitting the work across {@code pool} once the
+     * batch reaches {@code parallelThreshold}. Each worker reuses one scratch buffer for its whole chunk.
+     *
+     * @param paisa             The amounts in paisa
+     * @param isBangla          True for Bangla words; false for English
+     * @param out               Receives the words for {@code paisa[i]} at index {@code i}; must be at least as long as {@code paisa}
+     * @param parallelThreshold Smallest batch that is converted in parallel
+     * @param pool              The pool that runs parallel conversions
+     */
+    public static void convertAll(long[] paisa, boolean isBangla, String[] out, int parallelThreshold, ForkJoinPool pool) {
+        if (out.length < paisa.length) {
+            throw new IllegalArgumentException("Output array holds " + out.length + " entries but " + paisa.length + " amounts were given");
+        }
 
-            if (!tempString.isEmpty() || digitChar != '0') {
-                tempString.append(digitChar);
+        convertAll(paisa.length, parallelThreshold, pool, (from, to, scratch) -> {
+            for (int i = from; i < to; i++) {
+                scratch.setLength(0);
+                out[i] = appendTkInWordByLocale(scratch, paisa[i], isBangla).toString();
             }
+        });
+    }
+
+    /**
+     * Converts a list of amounts to words. Lists of {@value #DEFAULT_PARALLEL_THRESHOLD} or more amounts
+     * are split across the common ForkJoinPool.
+     *
+     * @param amounts  The amounts to convert; null elements convert to null
+     * @param isBangla True for Bangla words; false for English
+     * @return The words for each amount, in list order
+     */
+    public static List<String> convertAll(List<BigDecimal> amounts, boolean isBangla) {
+        return convertAll(amounts, isBangla, DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+    }
 
-            switch (positionInGroup) {
-                case CRORE_POSITION -> appendGroup(result, tempString, groupMap.get(CRORE_POSITION), digitToTextMap, true);
-                case LAKH_POSITION -> appendGroup(result, tempString, groupMap.get(LAKH_POSITION), digitToTextMap, false);
-                case THOUSAND_POSITION -> appendGroup(result, tempString, groupMap.get(THOUSAND_POSITION), digitToTextMap, false);
-                case HUNDRED_POSITION -> appendGroup(result, tempString, groupMap.get(HUNDRED_POSITION), digitToTextMap, false);
-                case UNIT_POSITION -> {
-                    if (!tempString.isEmpty()) {
-                        result.append(digitToTextMap.get(tempString.toString()));
-                    }
+    /**
+     * Converts a list of amounts to words, splitting the work across {@code pool} once the
+     * list reaches {@code parallelThreshold}. Each worker reuses one scratch buffer for its whole chunk.
+     *
+     * @param amounts           The amounts to convert; null elements convert to null
+     * @param isBangla          True for Bangla words; false for English
+     * @param parallelThreshold Smallest list that is converted in parallel
+     * @param pool              The pool that runs parallel conversions
+     * @return The words for each amount, in list order
+     */
+    public static List<String> convertAll(List<BigDecimal> amounts, boolean isBangla, int parallelThreshold, ForkJoinPool pool) {
+        BigDecimal[] amountArray = amounts.toArray(new BigDecimal[0]);
+        String[] out = new String[amountArray.length];
+
+        convertAll(amountArray.length, parallelThreshold, pool, (from, to, scratch) -> {
+            for (int i = from; i < to; i++) {
+                if (amountArray[i] != null) {
+                    scratch.setLength(0);
+                    out[i] = appendTkInWordByLocale(scratch, amountArray[i], isBangla).toString();
                 }
             }
-        }
+        });
+        return Arrays.asList(out);
+    }
 
-        if (result.isEmpty()) {
-            result.append(digitToTextMap.get("0"));
+    private static void convertAll(int size, int parallelThreshold, ForkJoinPool pool, ChunkConverter converter) {
+        if (size < parallelThreshold || pool.getParallelism() < 2) {
+            converter.convert(0, size, new StringBuilder(WORDS_INITIAL_CAPACITY));
+            return;
         }
 
-        return result.toString();
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, size / (pool.getParallelism() * 4));
+        pool.invoke(new ConvertAllTask(converter, 0, size, chunkSize));
     }
 
-    private static String convertDecimalPart(String decimalPart, Map<String, String> digitToTextMap) {
-        int decimalPartStart = decimalPart.length() > 1 && decimalPart.charAt(0) == '0' ? 1 : 0;
-        String roundedDecimalPart = decimalPart.substring(decimalPartStart, Math.min(decimalPart.length(), 2));
-        return digitToTextMap.get(roundedDecimalPart);
+    @FunctionalInterface
+    private interface ChunkConverter {
+        void convert(int from, int to, StringBuilder scratch);
     }
 
-    private static void appendGroup(StringBuilder result, StringBuilder tempString, String groupText, Map<String, String> digitToTextMap, boolean isCroreGroup) {
-        if (!tempString.isEmpty()) {
-            result.append(digitToTextMap.get(tempString.toString())).append(' ').append(groupText).append(' ');
-            tempString.setLength(0);
-        } else if (isCroreGroup && !result.isEmpty()) {
-            result.append(groupText).append(' ');
+    /**
+     * Halves its index range until it is no larger than the chunk size, then converts the chunk
+     * with a single scratch buffer.
+     */
+    private static final class ConvertAllTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ChunkConverter converter;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        ConvertAllTask(ChunkConverter converter, int from, int to, int chunkSize) {
+            this.converter = converter;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                converter.convert(from, to, new StringBuilder(WORDS_INITIAL_CAPACITY));
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new ConvertAllTask(converter, from, middle, chunkSize), new ConvertAllTask(converter, middle, to, chunkSize));
         }
     }
 
-    private static String removeRedundantSpace(String result) {
-        return result.trim().replaceAll(" +", " ");
+    private static String convertToTkInWord(BigDecimal amount, boolean isBangla) {
+        if (amount == null) {
+            return null;
+        }
+        if (amount.signum() < 0) {
+            return amount.toString();
+        }
+
+        long paisa = toPaisa(amount);
+        if (paisa >= 0) {
+            return words(isBangla).appendWords(new StringBuilder(WORDS_INITIAL_CAPACITY), paisa).toString();
+        }
+
+        // Only amounts beyond the long range of paisa are spelled block by block from their digits
+        Instrumentation.event(ConversionListener.Operation.WORDS, isBangla, ConversionListener.Event.FALLBACK);
+        return words(isBangla).appendWords(new StringBuilder(WORDS_INITIAL_CAPACITY), amount).toString();
+    }
+
+    private static <A extends Appendable> A append(A out, CharSequence text) {
+        try {
+            out.append(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
     }
 
+    /**
+     * Reads a non-negative amount as a whole number of paisa with {@link CommaSeparatedFormatter#toUnscaled},
+     * truncating digits beyond the second decimal place.
+     *
+     * @return The amount in paisa, or -1 if it does not fit in a long
+     */
+    static long toPaisa(BigDecimal amount) {
+        long paisa = CommaSeparatedFormatter.toUnscaled(amount, 2, RoundingMode.DOWN);
+        return paisa == CommaSeparatedFormatter.DOES_NOT_FIT ? -1 : paisa;
+    }
 
-    private static String banglaMoneyFormatter(BigDecimal amount) {
+    public static String formatToCommaSeparatedBanglaTk(BigDecimal amount) {
         if (amount == null) {
             return null;
         }
-        String formattedAmount = amount.setScale(2, RoundingMode.CEILING).toString();
-        return banglaMoneyCommaFormatter(formattedAmount);
+        return CommaSeparatedFormatter.format(amount, 2, RoundingMode.CEILING, false, CommaSeparatedFormatter.Style.BANGLA);
+    }
+
+    /**
+     * Writes the output of {@link #formatToCommaSeparatedBanglaTk(BigDecimal)} into a caller-supplied buffer.
+     * Nothing is written when the amount is null.
+     *
+     * @param out    The StringBuilder, CharBuffer or other Appendable to write into
+     * @param amount The amount to format
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendCommaSeparatedBanglaTk(A out, BigDecimal amount) {
+        if (amount == null) {
+            return out;
+        }
+        return CommaSeparatedFormatter.append(out, amount, 2, RoundingMode.CEILING, false, CommaSeparatedFormatter.Style.BANGLA);
     }
 
-    private static String banglaMoneyCommaFormatter(String amount) {
-        StringBuilder result = new StringBuilder();
-        String[] parts = amount.split("\\.");
-        String integerPart = parts[0];
 
-        try {
-            for (int i = 0; i < integerPart.length(); i++) {
-                char c = integerPart.charAt(i);
-                result.append(c);
-
-                int positionFromRight = integerPart.length() - 1 - i;
-                int positionInGroup = positionFromRight % 7;
-                if (positionFromRight > 0 && positionInGroup == 0 || positionInGroup == 3 || positionInGroup == 5) {
-                    result.append(",");
-                }
-            }
 
-            // Add the decimal part if present
-            if (parts.length > 1) {
-                result.append(".").append(parts[1]);
-            }
-        } catch (Exception e) {
-//            logger.error("Bangla money comma formatting failed with amount: {}", amount, e);
-            return amount;
+    /**
+     * Writes the output of {@link #formatToCommaSeparatedBanglaTk(BigDecimal)} into {@code out} as UTF-8.
+     * Nothing is written when the amount is null.
+     *
+     * @param out    A heap or direct buffer, written from its position onwards
+     * @param amount The amount to format
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room
+     */
+    public static ByteBuffer encodeCommaSeparatedBanglaTk(ByteBuffer out, BigDecimal amount) {
+        if (amount == null) {
+            return out;
         }
-
-        return result.toString();
+        return CommaSeparatedFormatter.encode(out, amount, 2, RoundingMode.CEILING, false, CommaSeparatedFormatter.Style.BANGLA);
     }
 
-    public static String formatToCommaSeparatedBanglaTk(BigDecimal amount) {
-        return NumberUtils.englishToBanglaDigitConversion(banglaMoneyFormatter(amount));
+    /**
+     * Formats an amount as comma separated Bangla Tk, e.g. ৩,১৩,১২৩.২১. Unlike
+     * {@link #formatToCommaSeparatedBanglaTk(BigDecimal)}, which rounds up, no rounding happens here; the
+     * Money was rounded with the mode chosen when it was created.
+     *
+     * @param amount The amount to format
+     * @return Formatted string representation of the amount, or null for null
+     */
+    public static String formatToCommaSeparatedBanglaTk(Money amount) {
+        return NumberingFormat.bangla().formatMoney(amount);
     }
 
+    /**
+     * Writes the output of {@link #formatToCommaSeparatedBanglaTk(Money)} into a caller-supplied buffer.
+     * Nothing is written when the amount is null.
+     *
+     * @param out    The StringBuilder, CharBuffer or other Appendable to write into
+     * @param amount The amount to format
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendCommaSeparatedBanglaTk(A out, Money amount) {
+        return NumberingFormat.bangla().appendMoney(out, amount);
+    }
 
+    /**
+     * Writes the output of {@link #formatToCommaSeparatedBanglaTk(Money)} into {@code out} as UTF-8.
+     * Nothing is written when the amount is null.
+     *
+     * @param out    A heap or direct buffer, written from its position onwards
+     * @param amount The amount to format
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room
+     */
+    public static ByteBuffer encodeCommaSeparatedBanglaTk(ByteBuffer out, Money amount) {
+        return NumberingFormat.bangla().encodeMoney(out, amount);
+    }
 
     /**
      * Formats a BigDecimal amount as a comma-separated money string,
-     * using Bangla or Western (US) formatting depending on the locale flag.
+     * using Bangla (e.g., ৩,১৩,১২৩.২১) or Western (e.g., 123,456.78) formatting depending on the locale flag.
      *
      * @param amount   The amount to format
      * @param isBangla True for Bangla style formatting; false for Western
@@ -178,26 +407,87 @@ public class TkInWord {
         if (amount == null) {
             return null;
         }
+        return money(isBangla).formatMoney(amount);
+    }
 
-        amount = amount.setScale(2, RoundingMode.HALF_UP);
-
-        if (isBangla) {
-            // Format in Bangla style (e.g., ৩,১৩,১২৩.২১)
-            String formattedAmount = commaSeperatedMoneyFormatter(amount.toString());
-            return NumberUtils.englishToBanglaDigitConversion(formattedAmount);
-        } else {
-            // Format in Western style (e.g., 123,456.78)
-            NumberFormat nf = NumberFormat.getNumberInstance(Locale.ENGLISH);
-            nf.setGroupingUsed(true);
-            nf.setMinimumFractionDigits(2);
-            nf.setMaximumFractionDigits(2);
-            return nf.format(amount);
+    /**
+     * Writes the output of {@link #formatCommaSeperatedMoneyByLocale(BigDecimal, boolean)} into a
+     * caller-supplied buffer. Nothing is written when the amount is null.
+     *
+     * @param out      The StringBuilder, CharBuffer or other Appendable to write into
+     * @param amount   The amount to format
+     * @param isBangla True for Bangla style formatting; false for Western
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendCommaSeperatedMoneyByLocale(A out, BigDecimal amount, boolean isBangla) {
+        if (amount == null) {
+            return out;
+        }
+        return money(isBangla).appendMoney(out, amount);
+    }
+
+    /**
+     * Writes the output of {@link #formatCommaSeperatedMoneyByLocale(BigDecimal, boolean)} into {@code out}
+     * as UTF-8. Nothing is written when the amount is null.
+     *
+     * @param out      A heap or direct buffer, written from its position onwards
+     * @param amount   The amount to format
+     * @param isBangla True for Bangla style formatting; false for Western
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room
+     */
+    public static ByteBuffer encodeCommaSeperatedMoneyByLocale(ByteBuffer out, BigDecimal amount, boolean isBangla) {
+        if (amount == null) {
+            return out;
         }
+        return money(isBangla).encodeMoney(out, amount);
+    }
+
+    /**
+     * Formats an amount as a comma-separated money string, using Bangla (e.g., ৩,১৩,১২৩.২১) or Western
+     * (e.g., 123,456.78) formatting. No rounding happens here; the Money was rounded when it was created.
+     *
+     * @param amount   The amount to format
+     * @param isBangla True for Bangla style formatting; false for Western
+     * @return Formatted string representation of the amount, or null for null
+     */
+    public static String formatCommaSeperatedMoneyByLocale(Money amount, boolean isBangla) {
+        return money(isBangla).formatMoney(amount);
+    }
+
+    /**
+     * Writes the output of {@link #formatCommaSeperatedMoneyByLocale(Money, boolean)} into a caller-supplied
+     * buffer. Nothing is written when the amount is null.
+     *
+     * @param out      The StringBuilder, CharBuffer or other Appendable to write into
+     * @param amount   The amount to format
+     * @param isBangla True for Bangla style formatting; false for Western
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
+     */
+    public static <A extends Appendable> A appendCommaSeperatedMoneyByLocale(A out, Money amount, boolean isBangla) {
+        return money(isBangla).appendMoney(out, amount);
+    }
+
+    /**
+     * Writes the output of {@link #formatCommaSeperatedMoneyByLocale(Money, boolean)} into {@code out} as
+     * UTF-8. Nothing is written when the amount is null.
+     *
+     * @param out      A heap or direct buffer, written from its position onwards
+     * @param amount   The amount to format
+     * @param isBangla True for Bangla style formatting; false for Western
+     * @return The same {@code out}, for chaining
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of room
+     */
+    public static ByteBuffer encodeCommaSeperatedMoneyByLocale(ByteBuffer out, Money amount, boolean isBangla) {
+        return money(isBangla).encodeMoney(out, amount);
     }
 
     /**
      * Formats a number (non-currency) with comma separators and optional fractional digits.
-     * Supports both Bangla and Western style formatting.
+     * Supports both Bangla and Western style formatting. Trailing fraction zeros are removed,
+     * and the decimal point is omitted if not needed.
      *
      * @param number            The number to format
      * @param maxFractionDigits Max allowed decimal digits
@@ -208,321 +498,81 @@ public class TkInWord {
         if (number == null) {
             return null;
         }
-
-        number = number.setScale(maxFractionDigits, RoundingMode.HALF_UP);
-
-        if (isBangla) {
-            String[] parts = number.toPlainString().split("\\.");
-            String integerPart = commaSeperatedMoneyFormatter(parts[0]);
-            String formatted = formatFractionalPart(maxFractionDigits, parts, integerPart);
-            return NumberUtils.englishToBanglaDigitConversion(formatted);
-        } else {
-            NumberFormat nf = NumberFormat.getNumberInstance(Locale.US);
-            nf.setGroupingUsed(true);
-            nf.setMaximumFractionDigits(maxFractionDigits);
-            return nf.format(number);
-        }
+        return money(isBangla).formatNumber(number, maxFractionDigits);
     }
 
     /**
-     * Appends fractional part to a formatted integer part for Bangla style numbers.
-     * Removes trailing zeros, and omits decimal if not needed.
+     * Writes the output of {@link #formatCommaSeparatedNumberByLocale(BigDecimal, int, boolean)} into a
+     * caller-supplied buffer. Nothing is written when the number is null.
      *
-     * @param maxFractionDigits Number of digits after decimal
-     * @param parts             Split number parts (before and after decimal)
-     * @param integerPart       Already-formatted integer part
-     * @return Final formatted number as string
+     * @param out               The StringBuilder, CharBuffer or other Appendable to write into
+     * @param number            The number to format
+     * @param maxFractionDigits Max allowed decimal digits
+     * @param isBangla          True for Bangla style; false for Western
+     * @return The same {@code out}, for chaining
+     * @throws UncheckedIOException if {@code out} fails to accept the text
      */
-    private static String formatFractionalPart(int maxFractionDigits, String[] parts, String integerPart) {
-        if (maxFractionDigits == 0 || parts.length < 2) {
-            return integerPart;
-        }
-
-        StringBuilder decimalPart = new StringBuilder(parts[1]);
-
-        // Truncate or pad to required length
-        if (decimalPart.length() > maxFractionDigits) {
-            decimalPart.setLength(maxFractionDigits);
-        } else {
-            while (decimalPart.length() < maxFractionDigits) {
-                decimalPart.append("0");
-            }
-        }
-
-        // Trim trailing zeros
-        int i = decimalPart.length() - 1;
-        while (i >= 0 && decimalPart.charAt(i) == '0') {
-            i--;
-        }
-
-        if (i < 0) {
-            return integerPart;
+    public static <A extends Appendable> A appendCommaSeparatedNumberByLocale(A out, BigDecimal number, int maxFractionDigits, boolean isBangla) {
+        if (number == null) {
+            return out;
         }
-
-        return integerPart + "." + decimalPart.substring(0, i + 1);
+        return money(isBangla).appendNumber(out, number, maxFractionDigits);
     }
 
 
-    private static String commaSeperatedMoneyFormatter(String amount) {
-        StringBuilder result = new StringBuilder();
-        String[] parts = amount.split("\\.");
-        String integerPart = parts[0];
 
-        try {
-            for (int i = 0; i < integerPart.length(); i++) {
-                char c = integerPart.charAt(i);
-                result.append(c);
-
-                int positionFromRight = integerPart.length() - 1 - i;
-                int positionInGroup = positionFromRight % 7;
-                if (positionFromRight > 0 && positionInGroup == 0 || positionInGroup == 3 || positionInGroup == 5) {
-                    result.append(",");
-                }
-            }
+    /**
+     * The numbering system behind the words of the {@code isBangla} methods.
+     */
+    private static NumberingFormat words(boolean isBangla) {
+        return isBangla ? NumberingFormat.bangla() : NumberingFormat.english();
+    }
 
-            // Add the decimal part if present
-            if (parts.length > 1) {
-                result.append(".").append(parts[1]);
-            }
-        } catch (Exception e) {
-            return amount;
-        }
+    /**
+     * The numbering system behind the comma separated output of the {@code isBangla} methods; English
+     * output has always been grouped the Western way.
+     */
+    private static NumberingFormat money(boolean isBangla) {
+        return isBangla ? NumberingFormat.bangla() : NumberingFormat.internationalEnglish();
+    }
 
-        return result.toString();
-    }
-
-
-
-    private static Map<Integer, String> createEnglishTkGroupMap() {
-        Map<Integer, String> englishTkGroupMap = new HashMap<>();
-        englishTkGroupMap.put(CRORE_POSITION, "Crore");
-        englishTkGroupMap.put(LAKH_POSITION, "Lakh");
-        englishTkGroupMap.put(THOUSAND_POSITION, "Thousand");
-        englishTkGroupMap.put(HUNDRED_POSITION, "Hundred");
-
-        return englishTkGroupMap;
-    }
-
-    private static Map<Integer, String> createBanglaTkGroupMap() {
-        Map<Integer, String> banglaTkGroupMap = new HashMap<>();
-        banglaTkGroupMap.put(CRORE_POSITION, "কোটি");
-        banglaTkGroupMap.put(LAKH_POSITION, "লক্ষ");
-        banglaTkGroupMap.put(THOUSAND_POSITION, "হাজার");
-        banglaTkGroupMap.put(HUNDRED_POSITION, "শত");
-        return banglaTkGroupMap;
-    }
-
-
-    private static Map<String, String> createEnglishDigitToBanglaTextMap() {
-        Map<String, String> englishDigitToBanglaTextMap = new HashMap<>();
-        englishDigitToBanglaTextMap.put("0", "শূন্য");
-        englishDigitToBanglaTextMap.put("1", "এক");
-        englishDigitToBanglaTextMap.put("2", "দুই");
-        englishDigitToBanglaTextMap.put("3", "তিন");
-        englishDigitToBanglaTextMap.put("4", "চার");
-        englishDigitToBanglaTextMap.put("5", "পাঁচ");
-        englishDigitToBanglaTextMap.put("6", "ছয়");
-        englishDigitToBanglaTextMap.put("7", "সাত");
-        englishDigitToBanglaTextMap.put("8", "আট");
-        englishDigitToBanglaTextMap.put("9", "নয়");
-        englishDigitToBanglaTextMap.put("10", "দশ");
-        englishDigitToBanglaTextMap.put("11", "এগারো");
-        englishDigitToBanglaTextMap.put("12", "বারো");
-        englishDigitToBanglaTextMap.put("13", "তেরো");
-        englishDigitToBanglaTextMap.put("14", "চৌদ্দ");
-        englishDigitToBanglaTextMap.put("15", "পনেরো");
-        englishDigitToBanglaTextMap.put("16", "ষোল");
-        englishDigitToBanglaTextMap.put("17", "সতেরো");
-        englishDigitToBanglaTextMap.put("18", "আঠারো");
-        englishDigitToBanglaTextMap.put("19", "ঊনিশ");
-        englishDigitToBanglaTextMap.put("20", "বিশ");
-        englishDigitToBanglaTextMap.put("21", "একুশ");
-        englishDigitToBanglaTextMap.put("22", "বাইশ");
-        englishDigitToBanglaTextMap.put("23", "তেইশ");
-        englishDigitToBanglaTextMap.put("24", "চব্বিশ");
-        englishDigitToBanglaTextMap.put("25", "পঁচিশ");
-        englishDigitToBanglaTextMap.put("26", "ছাব্বিশ");
-        englishDigitToBanglaTextMap.put("27", "সাতাশ");
-        englishDigitToBanglaTextMap.put("28", "আটাশ");
-        englishDigitToBanglaTextMap.put("29", "ঊনত্রিশ");
-        englishDigitToBanglaTextMap.put("30", "ত্রিশ");
-        englishDigitToBanglaTextMap.put("31", "একত্রিশ");
-        englishDigitToBanglaTextMap.put("32", "বত্রিশ");
-        englishDigitToBanglaTextMap.put("33", "তেত্রিশ");
-        englishDigitToBanglaTextMap.put("34", "চৌত্রিশ");
-        englishDigitToBanglaTextMap.put("35", "পঁইত্রিশ");
-        englishDigitToBanglaTextMap.put("36", "ছত্রিশ");
-        englishDigitToBanglaTextMap.put("37", "সাইত্রিশ");
-        englishDigitToBanglaTextMap.put("38", "আটত্রিশ");
-        englishDigitToBanglaTextMap.put("39", "ঊনচল্লিশ");
-        englishDigitToBanglaTextMap.put("40", "চল্লিশ");
-        englishDigitToBanglaTextMap.put("41", "একচল্লিশ");
-        englishDigitToBanglaTextMap.put("42", "বিয়াল্লিশ");
-        englishDigitToBanglaTextMap.put("43", "তেতাল্লিশ");
-        englishDigitToBanglaTextMap.put("44", "চুয়াল্লিশ");
-        englishDigitToBanglaTextMap.put("45", "পঁইতাল্লিশ");
-        englishDigitToBanglaTextMap.put("46", "ছেচল্লিশ");
-        englishDigitToBanglaTextMap.put("47", "সাতচল্লিশ");
-        englishDigitToBanglaTextMap.put("48", "আটচল্লিশ");
-        englishDigitToBanglaTextMap.put("49", "ঊনপঞ্চাশ");
-        englishDigitToBanglaTextMap.put("50", "পঞ্চাশ");
-        englishDigitToBanglaTextMap.put("51", "একান্ন");
-        englishDigitToBanglaTextMap.put("52", "বায়ান্ন");
-        englishDigitToBanglaTextMap.put("53", "তিপ্পান্ন");
-        englishDigitToBanglaTextMap.put("54", "চুয়ান্ন");
-        englishDigitToBanglaTextMap.put("55", "পঁইচান্ন");
-        englishDigitToBanglaTextMap.put("56", "ছাপ্পান্ন");
-        englishDigitToBanglaTextMap.put("57", "সাতান্ন");
-        englishDigitToBanglaTextMap.put("58", "আটান্ন");
-        englishDigitToBanglaTextMap.put("59", "ঊনষাট");
-        englishDigitToBanglaTextMap.put("60", "ষাট");
-        englishDigitToBanglaTextMap.put("61", "একষট্টি");
-        englishDigitToBanglaTextMap.put("62", "বাষট্টি");
-        englishDigitToBanglaTextMap.put("63", "তেষট্টি");
-        englishDigitToBanglaTextMap.put("64", "চৌষট্টি");
-        englishDigitToBanglaTextMap.put("65", "পঁইষট্টি");
-        englishDigitToBanglaTextMap.put("66", "ছেষট্টি");
-        englishDigitToBanglaTextMap.put("67", "সাতষট্টি");
-        englishDigitToBanglaTextMap.put("68", "আটষট্টি");
-        englishDigitToBanglaTextMap.put("69", "ঊনসত্তর");
-        englishDigitToBanglaTextMap.put("70", "সত্তর");
-        englishDigitToBanglaTextMap.put("71", "একাত্তর");
-        englishDigitToBanglaTextMap.put("72", "বাহাত্তর");
-        englishDigitToBanglaTextMap.put("73", "তিয়াত্তর");
-        englishDigitToBanglaTextMap.put("74", "চুয়াত্তর");
-        englishDigitToBanglaTextMap.put("75", "পঁচাত্তর");
-        englishDigitToBanglaTextMap.put("76", "ছিয়াত্তর");
-        englishDigitToBanglaTextMap.put("77", "সাতাত্তর");
-        englishDigitToBanglaTextMap.put("78", "আটাত্তর");
-        englishDigitToBanglaTextMap.put("79", "ঊনআশি");
-        englishDigitToBanglaTextMap.put("80", "আশি");
-        englishDigitToBanglaTextMap.put("81", "একাশি");
-        englishDigitToBanglaTextMap.put("82", "বিরাশি");
-        englishDigitToBanglaTextMap.put("83", "তিরাশি");
-        englishDigitToBanglaTextMap.put("84", "চুরাশি");
-        englishDigitToBanglaTextMap.put("85", "পঁচাশি");
-        englishDigitToBanglaTextMap.put("86", "ছিয়াশি");
-        englishDigitToBanglaTextMap.put("87", "সাতাশি");
-        englishDigitToBanglaTextMap.put("88", "আটাশি");
-        englishDigitToBanglaTextMap.put("89", "ঊননব্বই");
-        englishDigitToBanglaTextMap.put("90", "নব্বই");
-        englishDigitToBanglaTextMap.put("91", "একানব্বই");
-        englishDigitToBanglaTextMap.put("92", "বিরানব্বই");
-        englishDigitToBanglaTextMap.put("93", "তিরানব্বই");
-        englishDigitToBanglaTextMap.put("94", "চুরানব্বই");
-        englishDigitToBanglaTextMap.put("95", "পঁচানব্বই");
-        englishDigitToBanglaTextMap.put("96", "ছিয়ানব্বই");
-        englishDigitToBanglaTextMap.put("97", "সাতানব্বই");
-        englishDigitToBanglaTextMap.put("98", "আটানব্বই");
-        englishDigitToBanglaTextMap.put("99", "নিরানব্বই");
-
-        return englishDigitToBanglaTextMap;
-    }
-
-    private static Map<String, String> createEnglishDigitToEnglishTextMap() {
-        Map<String, String> englishDigitToEnglishTextMap = new HashMap<>();
-        englishDigitToEnglishTextMap.put("0", "Zero");
-        englishDigitToEnglishTextMap.put("1", "One");
-        englishDigitToEnglishTextMap.put("2", "Two");
-        englishDigitToEnglishTextMap.put("3", "Three");
-        englishDigitToEnglishTextMap.put("4", "Four");
-        englishDigitToEnglishTextMap.put("5", "Five");
-        englishDigitToEnglishTextMap.put("6", "Six");
-        englishDigitToEnglishTextMap.put("7", "Seven");
-        englishDigitToEnglishTextMap.put("8", "Eight");
-        englishDigitToEnglishTextMap.put("9", "Nine");
-        englishDigitToEnglishTextMap.put("10", "Ten");
-        englishDigitToEnglishTextMap.put("11", "Eleven");
-        englishDigitToEnglishTextMap.put("12", "Twelve");
-        englishDigitToEnglishTextMap.put("13", "Thirteen");
-        englishDigitToEnglishTextMap.put("14", "Fourteen");
-        englishDigitToEnglishTextMap.put("15", "Fifteen");
-        englishDigitToEnglishTextMap.put("16", "Sixteen");
-        englishDigitToEnglishTextMap.put("17", "Seventeen");
-        englishDigitToEnglishTextMap.put("18", "Eighteen");
-        englishDigitToEnglishTextMap.put("19", "Nineteen");
-        englishDigitToEnglishTextMap.put("20", "Twenty");
-        englishDigitToEnglishTextMap.put("21", "Twenty One");
-        englishDigitToEnglishTextMap.put("22", "Twenty Two");
-        englishDigitToEnglishTextMap.put("23", "Twenty Three");
-        englishDigitToEnglishTextMap.put("24", "Twenty Four");
-        englishDigitToEnglishTextMap.put("25", "Twenty Five");
-        englishDigitToEnglishTextMap.put("26", "Twenty Six");
-        englishDigitToEnglishTextMap.put("27", "Twenty Seven");
-        englishDigitToEnglishTextMap.put("28", "Twenty Eight");
-        englishDigitToEnglishTextMap.put("29", "Twenty Nine");
-        englishDigitToEnglishTextMap.put("30", "Thirty");
-        englishDigitToEnglishTextMap.put("31", "Thirty One");
-        englishDigitToEnglishTextMap.put("32", "Thirty Two");
-        englishDigitToEnglishTextMap.put("33", "Thirty Three");
-        englishDigitToEnglishTextMap.put("34", "Thirty Four");
-        englishDigitToEnglishTextMap.put("35", "Thirty Five");
-        englishDigitToEnglishTextMap.put("36", "Thirty Six");
-        englishDigitToEnglishTextMap.put("37", "Thirty Seven");
-        englishDigitToEnglishTextMap.put("38", "Thirty Eight");
-        englishDigitToEnglishTextMap.put("39", "Thirty Nine");
-        englishDigitToEnglishTextMap.put("40", "Forty");
-        englishDigitToEnglishTextMap.put("41", "Forty One");
-        englishDigitToEnglishTextMap.put("42", "Forty Two");
-        englishDigitToEnglishTextMap.put("43", "Forty Three");
-        englishDigitToEnglishTextMap.put("44", "Forty Four");
-        englishDigitToEnglishTextMap.put("45", "Forty Five");
-        englishDigitToEnglishTextMap.put("46", "Forty Six");
-        englishDigitToEnglishTextMap.put("47", "Forty Seven");
-        englishDigitToEnglishTextMap.put("48", "Forty Eight");
-        englishDigitToEnglishTextMap.put("49", "Forty Nine");
-        englishDigitToEnglishTextMap.put("50", "Fifty");
-        englishDigitToEnglishTextMap.put("51", "Fifty One");
-        englishDigitToEnglishTextMap.put("52", "Fifty Two");
-        englishDigitToEnglishTextMap.put("53", "Fifty Three");
-        englishDigitToEnglishTextMap.put("54", "Fifty Four");
-        englishDigitToEnglishTextMap.put("55", "Fifty Five");
-        englishDigitToEnglishTextMap.put("56", "Fifty Six");
-        englishDigitToEnglishTextMap.put("57", "Fifty Seven");
-        englishDigitToEnglishTextMap.put("58", "Fifty Eight");
-        englishDigitToEnglishTextMap.put("59", "Fifty Nine");
-        englishDigitToEnglishTextMap.put("60", "Sixty");
-        englishDigitToEnglishTextMap.put("61", "Sixty One");
-        englishDigitToEnglishTextMap.put("62", "Sixty Two");
-        englishDigitToEnglishTextMap.put("63", "Sixty Three");
-        englishDigitToEnglishTextMap.put("64", "Sixty Four");
-        englishDigitToEnglishTextMap.put("65", "Sixty Five");
-        englishDigitToEnglishTextMap.put("66", "Sixty Six");
-        englishDigitToEnglishTextMap.put("67", "Sixty Seven");
-        englishDigitToEnglishTextMap.put("68", "Sixty Eight");
-        englishDigitToEnglishTextMap.put("69", "Sixty Nine");
-        englishDigitToEnglishTextMap.put("70", "Seventy");
-        englishDigitToEnglishTextMap.put("71", "Seventy One");
-        englishDigitToEnglishTextMap.put("72", "Seventy Two");
-        englishDigitToEnglishTextMap.put("73", "Seventy Three");
-        englishDigitToEnglishTextMap.put("74", "Seventy Four");
-        englishDigitToEnglishTextMap.put("75", "Seventy Five");
-        englishDigitToEnglishTextMap.put("76", "Seventy Six");
-        englishDigitToEnglishTextMap.put("77", "Seventy Seven");
-        englishDigitToEnglishTextMap.put("78", "Seventy Eight");
-        englishDigitToEnglishTextMap.put("79", "Seventy Nine");
-        englishDigitToEnglishTextMap.put("80", "Eighty");
-        englishDigitToEnglishTextMap.put("81", "Eighty One");
-        englishDigitToEnglishTextMap.put("82", "Eighty Two");
-        englishDigitToEnglishTextMap.put("83", "Eighty Three");
-        englishDigitToEnglishTextMap.put("84", "Eighty Four");
-        englishDigitToEnglishTextMap.put("85", "Eighty Five");
-        englishDigitToEnglishTextMap.put("86", "Eighty Six");
-        englishDigitToEnglishTextMap.put("87", "Eighty Seven");
-        englishDigitToEnglishTextMap.put("88", "Eighty Eight");
-        englishDigitToEnglishTextMap.put("89", "Eighty Nine");
-        englishDigitToEnglishTextMap.put("90", "Ninety");
-        englishDigitToEnglishTextMap.put("91", "Ninety One");
-        englishDigitToEnglishTextMap.put("92", "Ninety Two");
-        englishDigitToEnglishTextMap.put("93", "Ninety Three");
-        englishDigitToEnglishTextMap.put("94", "Ninety Four");
-        englishDigitToEnglishTextMap.put("95", "Ninety Five");
-        englishDigitToEnglishTextMap.put("96", "Ninety Six");
-        englishDigitToEnglishTextMap.put("97", "Ninety Seven");
-        englishDigitToEnglishTextMap.put("98", "Ninety Eight");
-        englishDigitToEnglishTextMap.put("99", "Ninety Nine");
-
-        return englishDigitToEnglishTextMap;
+    /**
+     * The Bangla vocabulary. It lives in its own class so it is only loaded once Bangla words are needed,
+     * and holds nothing but constant arrays, so it can be initialized at image build time.
+     */
+    static final class BanglaText {
+        static final String[] NUMBER_TO_TEXT = {
+                "শূন্য", "এক", "দুই", "তিন", "চার", "পাঁচ", "ছয়", "সাত", "আট", "নয়",
+                "দশ", "এগারো", "বারো", "তেরো", "চৌদ্দ", "পনেরো", "ষোল", "সতেরো", "আঠারো", "ঊনিশ",
+                "বিশ", "একুশ", "বাইশ", "তেইশ", "চব্বিশ", "পঁচিশ", "ছাব্বিশ", "সাতাশ", "আটাশ", "ঊনত্রিশ",
+                "ত্রিশ", "একত্রিশ", "বত্রিশ", "তেত্রিশ", "চৌত্রিশ", "পঁইত্রিশ", "ছত্রিশ", "সাইত্রিশ", "আটত্রিশ", "ঊনচল্লিশ",
+                "চল্লিশ", "একচল্লিশ", "বিয়াল্লিশ", "তেতাল্লিশ", "চুয়াল্লিশ", "পঁইতাল্লিশ", "ছেচল্লিশ", "সাতচল্লিশ", "আটচল্লিশ", "ঊনপঞ্চাশ",
+                "পঞ্চাশ", "একান্ন", "বায়ান্ন", "তিপ্পান্ন", "চুয়ান্ন", "পঁইচান্ন", "ছাপ্পান্ন", "সাতান্ন", "আটান্ন", "ঊনষাট",
+                "ষাট", "একষট্টি", "বাষট্টি", "তেষট্টি", "চৌষট্টি", "পঁইষট্টি", "ছেষট্টি", "সাতষট্টি", "আটষট্টি", "ঊনসত্তর",
+                "সত্তর", "একাত্তর", "বাহাত্তর", "তিয়াত্তর", "চুয়াত্তর", "পঁচাত্তর", "ছিয়াত্তর", "সাতাত্তর", "আটাত্তর", "ঊনআশি",
+                "আশি", "একাশি", "বিরাশি", "তিরাশি", "চুরাশি", "পঁচাশি", "ছিয়াশি", "সাতাশি", "আটাশি", "ঊননব্বই",
+                "নব্বই", "একানব্বই", "বিরানব্বই", "তিরানব্বই", "চুরানব্বই", "পঁচানব্বই", "ছিয়ানব্বই", "সাতানব্বই", "আটানব্বই", "নিরানব্বই"
+        };
+        // Indexed by the *_POSITION constants
+        static final String[] GROUP_TEXT = {"শত", "হাজার", null, "লক্ষ", null, "কোটি"};
     }
 
+    /**
+     * The English vocabulary; see {@link BanglaText}.
+     */
+    static final class EnglishText {
+        static final String[] NUMBER_TO_TEXT = {
+                "Zero", "One", "Two", "Three", "Four", "Five", "Six", "Seven", "Eight", "Nine",
+                "Ten", "Eleven", "Twelve", "Thirteen", "Fourteen", "Fifteen", "Sixteen", "Seventeen", "Eighteen", "Nineteen",
+                "Twenty", "Twenty One", "Twenty Two", "Twenty Three", "Twenty Four", "Twenty Five", "Twenty Six", "Twenty Seven", "Twenty Eight", "Twenty Nine",
+                "Thirty", "Thirty One", "Thirty Two", "Thirty Three", "Thirty Four", "Thirty Five", "Thirty Six", "Thirty Seven", "Thirty Eight", "Thirty Nine",
+                "Forty", "Forty One", "Forty Two", "Forty Three", "Forty Four", "Forty Five", "Forty Six", "Forty Seven", "Forty Eight", "Forty Nine",
+                "Fifty", "Fifty One", "Fifty Two", "Fifty Three", "Fifty Four", "Fifty Five", "Fifty Six", "Fifty Seven", "Fifty Eight", "Fifty Nine",
+                "Sixty", "Sixty One", "Sixty Two", "Sixty Three", "Sixty Four", "Sixty Five", "Sixty Six", "Sixty Seven", "Sixty Eight", "Sixty Nine",
+                "Seventy", "Seventy One", "Seventy Two", "Seventy Three", "Seventy Four", "Seventy Five", "Seventy Six", "Seventy Seven", "Seventy Eight", "Seventy Nine",
+                "Eighty", "Eighty One", "Eighty Two", "Eighty Three", "Eighty Four", "Eighty Five", "Eighty Six", "Eighty Seven", "Eighty Eight", "Eighty Nine",
+                "Ninety", "Ninety One", "Ninety Two", "Ninety Three", "Ninety Four", "Ninety Five", "Ninety Six", "Ninety Seven", "Ninety Eight", "Ninety Nine"
+        };
+        static final String[] GROUP_TEXT = {"Hundred", "Thousand", null, "Lakh", null, "Crore"};
+    }
 }
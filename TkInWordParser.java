@@ -0,0 +1,412 @@
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads amounts in words back into paisa, the inverse of {@link TkInWord#convertToTkInWordByLocale}:
+ * "এক কোটি পাঁচ লক্ষ টাকা পঁচিশ পয়সা মাত্র" and "One Crore Five Lakh Taka Twenty Five Paisa Only" both
+ * become 1050000025 paisa.
+ * <p>
+ * The input is read once, left to right, by a trie compiled from TkInWord's word tables plus common
+ * spelling variants (লাখ, ষোলো, Lac, Fourty, Tk, Paise, ...). Letter case, ঊ/উ, chandrabindu, joiners and
+ * the precomposed and nukta forms of য়, ড় and ঢ় are folded as each char is read, so there is no regex,
+ * backtracking or intermediate String. Bangla and English words may be mixed.
+ */
+public class TkInWordParser {
+    /**
+     * Returned by {@link #parseToPaisa(CharSequence)} for text that is not an amount in words.
+     */
+    public static final long INVALID = -1;
+
+    private static final int KIND_SHIFT = 28;
+    private static final int VALUE_MASK = (1 << KIND_SHIFT) - 1;
+    private static final int NUMBER = 1;
+    private static final int GROUP = 2;
+    private static final int TAKA = 3;
+    private static final int PAISA = 4;
+    private static final int ONLY = 5;
+    private static final int CONNECTIVE = 6;
+
+    private static final int CRORE = 10_000_000;
+    private static final int LAKH = 100_000;
+    private static final int THOUSAND = 1_000;
+    private static final int HUNDRED = 100;
+    private static final long MAX_TAKA = (Long.MAX_VALUE - 99) / 100;
+
+    private static final char NUKTA = '\u09BC';
+    private static final char CHANDRABINDU = '\u0981';
+    private static final char ZERO_WIDTH_NON_JOINER = '\u200C';
+    private static final char ZERO_WIDTH_JOINER = '\u200D';
+    private static final char RRA = '\u09DC';
+    private static final char RRA_BASE = '\u09A1';
+    private static final char RHA = '\u09DD';
+    private static final char RHA_BASE = '\u09A2';
+    private static final char YYA = '\u09DF';
+    private static final char YYA_BASE = '\u09AF';
+    private static final char NO_BREAK_SPACE = '\u00A0';
+    private static final char LAST_TRIE_CHAR = '\u09FF';
+
+    private static final int DEAD = 0;
+    private static final int ROOT = 1;
+
+    private static final int SEPARATOR = -1;
+    private static final int UNKNOWN = -2;
+    private static final int SKIPPED = -3;
+    private static final int COMPOSED = -4;
+
+    /**
+     * The trie symbol of every char up to {@link #LAST_TRIE_CHAR} after folding, or one of the negative classes.
+     */
+    private static final int[] CHAR_CLASS;
+    private static final int SYMBOL_COUNT;
+    private static final int[] TRANSITIONS;
+    private static final int[] TOKENS;
+
+    static {
+        List<String> words = new ArrayList<>();
+        List<Integer> tokens = new ArrayList<>();
+        addVocabulary(words, tokens);
+
+        int[] symbolOfChar = new int[LAST_TRIE_CHAR + 1];
+        Arrays.fill(symbolOfChar, -1);
+        int symbolCount = 0;
+        for (String word : words) {
+            for (int i = 0; i < word.length(); i++) {
+                char c = word.charAt(i);
+                if (symbolOfChar[c] < 0) {
+                    symbolOfChar[c] = symbolCount++;
+                }
+            }
+        }
+        SYMBOL_COUNT = symbolCount;
+
+        CHAR_CLASS = new int[LAST_TRIE_CHAR + 1];
+        for (char c = 0; c <= LAST_TRIE_CHAR; c++) {
+            char folded = fold(c);
+            if (composedBase(c) != 0) {
+                CHAR_CLASS[c] = COMPOSED;
+            } else if (folded == 0) {
+                CHAR_CLASS[c] = SKIPPED;
+            } else if (symbolOfChar[folded] >= 0) {
+                CHAR_CLASS[c] = symbolOfChar[folded];
+            } else {
+                CHAR_CLASS[c] = isSeparator(c) ? SEPARATOR : UNKNOWN;
+            }
+        }
+
+        List<int[]> transitions = new ArrayList<>();
+        List<Integer> nodeTokens = new ArrayList<>();
+        for (int node = DEAD; node <= ROOT; node++) {
+            transitions.add(new int[SYMBOL_COUNT]);
+            nodeTokens.add(0);
+        }
+        for (int i = 0; i < words.size(); i++) {
+            insert(words.get(i), tokens.get(i), transitions, nodeTokens);
+        }
+
+        TRANSITIONS = new int[transitions.size() * SYMBOL_COUNT];
+        TOKENS = new int[nodeTokens.size()];
+        for (int node = 0; node < transitions.size(); node++) {
+            System.arraycopy(transitions.get(node), 0, TRANSITIONS, node * SYMBOL_COUNT, SYMBOL_COUNT);
+            TOKENS[node] = nodeTokens.get(node);
+        }
+    }
+
+    /**
+     * Parses an amount in words to paisa. Text with no words at all reads as zero, matching the empty
+     * string {@link TkInWord#convertToTkInWordByLocale} gives for zero; number words without "Taka" read as Taka.
+     *
+     * @param words The amount in Bangla or English words
+     * @return The amount in paisa, or {@link #INVALID} if the text is null, has an unknown word, is out of
+     * order (e.g. "Five Thousand Two Lakh") or does not fit in a long
+     */
+    public static long parseToPaisa(CharSequence words) {
+        if (words == null) {
+            return INVALID;
+        }
+
+        Amount amount = new Amount();
+        int node = ROOT;
+        int length = words.length();
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? words.charAt(i) : ' ';
+            int charClass = classOf(c);
+            if (charClass >= 0) {
+                node = TRANSITIONS[node * SYMBOL_COUNT + charClass];
+            } else if (charClass == COMPOSED) {
+                node = transition(transition(node, composedBase(c)), NUKTA);
+            } else if (charClass == SEPARATOR) {
+                if (node != ROOT && !amount.accept(TOKENS[node])) {
+                    return INVALID;
+                }
+                node = ROOT;
+            } else if (charClass == UNKNOWN) {
+                return INVALID;
+            }
+
+            if (node == DEAD) {
+                return INVALID;
+            }
+        }
+        return amount.toPaisa();
+    }
+
+    /**
+     * Parses an amount in words to Taka with two decimals.
+     *
+     * @param words The amount in Bangla or English words
+     * @return The amount, or null if the text is not a valid amount
+     * @see #parseToPaisa(CharSequence)
+     */
+    public static BigDecimal parseToAmount(CharSequence words) {
+        long paisa = parseToPaisa(words);
+        return paisa == INVALID ? null : BigDecimal.valueOf(paisa, 2);
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == ',' || c == '.' || c == '-' || c == '/' || c == '=' || c == NO_BREAK_SPACE || Character.isWhitespace(c);
+    }
+
+    private static int classOf(char c) {
+        if (c <= LAST_TRIE_CHAR) {
+            return CHAR_CLASS[c];
+        }
+        if (fold(c) == 0) {
+            return SKIPPED;
+        }
+        return isSeparator(c) ? SEPARATOR : UNKNOWN;
+    }
+
+    private static int transition(int node, char c) {
+        int symbol = CHAR_CLASS[c];
+        return symbol < 0 ? DEAD : TRANSITIONS[node * SYMBOL_COUNT + symbol];
+    }
+
+    /**
+     * The letter a precomposed nukta letter (য় as one char) is written with when the nukta is separate; 0 for other chars.
+     */
+    private static char composedBase(char c) {
+        return switch (c) {
+            case RRA -> RRA_BASE;
+            case RHA -> RHA_BASE;
+            case YYA -> YYA_BASE;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Folds a char to the form the trie is keyed on; 0 for chars that are skipped.
+     */
+    private static char fold(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        return switch (c) {
+            case CHANDRABINDU, ZERO_WIDTH_NON_JOINER, ZERO_WIDTH_JOINER -> 0;
+            case 'ঊ' -> 'উ';
+            default -> c;
+        };
+    }
+
+    private static String normalize(String word) {
+        StringBuilder normalized = new StringBuilder(word.length() + 2);
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            char base = composedBase(c);
+            char folded = fold(c);
+            if (base != 0) {
+                normalized.append(base).append(NUKTA);
+            } else if (folded != 0) {
+                normalized.append(folded);
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static void insert(String word, int token, List<int[]> transitions, List<Integer> nodeTokens) {
+        int node = ROOT;
+        for (int i = 0; i < word.length(); i++) {
+            int symbol = CHAR_CLASS[word.charAt(i)];
+            int next = transitions.get(node)[symbol];
+            if (next == DEAD) {
+                next = transitions.size();
+                transitions.add(new int[SYMBOL_COUNT]);
+                nodeTokens.add(0);
+                transitions.get(node)[symbol] = next;
+            }
+            node = next;
+        }
+
+        int existing = nodeTokens.get(node);
+        if (existing != 0 && existing != token) {
+            throw new IllegalStateException("Ambiguous amount word: " + word);
+        }
+        nodeTokens.set(node, token);
+    }
+
+    private static void addVocabulary(List<String> words, List<Integer> tokens) {
+        for (String[] numberToText : new String[][]{TkInWord.BanglaText.NUMBER_TO_TEXT, TkInWord.EnglishText.NUMBER_TO_TEXT}) {
+            for (int number = 0; number < numberToText.length; number++) {
+                // "Twenty One" is read as Twenty followed by One
+                if (numberToText[number].indexOf(' ') < 0) {
+                    addWord(words, tokens, numberToText[number], NUMBER, number);
+                }
+            }
+        }
+        for (String[] groupText : new String[][]{TkInWord.BanglaText.GROUP_TEXT, TkInWord.EnglishText.GROUP_TEXT}) {
+            addWord(words, tokens, groupText[TkInWord.CRORE_POSITION], GROUP, CRORE);
+            addWord(words, tokens, groupText[TkInWord.LAKH_POSITION], GROUP, LAKH);
+            addWord(words, tokens, groupText[TkInWord.THOUSAND_POSITION], GROUP, THOUSAND);
+            addWord(words, tokens, groupText[TkInWord.HUNDRED_POSITION], GROUP, HUNDRED);
+        }
+        addWord(words, tokens, TkInWord.BANGLA_TAKA_TEXT, TAKA, 0);
+        addWord(words, tokens, TkInWord.ENGLISH_TAKA_TEXT, TAKA, 0);
+        addWord(words, tokens, TkInWord.BANGLA_PAISA_TEXT, PAISA, 0);
+        addWord(words, tokens, TkInWord.ENGLISH_PAISA_TEXT, PAISA, 0);
+        addWord(words, tokens, TkInWord.BANGLA_ONLY_TEXT, ONLY, 0);
+        addWord(words, tokens, TkInWord.ENGLISH_ONLY_TEXT, ONLY, 0);
+
+        addWord(words, tokens, "এগার", NUMBER, 11);
+        addWord(words, tokens, "বার", NUMBER, 12);
+        addWord(words, tokens, "তের", NUMBER, 13);
+        addWord(words, tokens, "চোদ্দ", NUMBER, 14);
+        addWord(words, tokens, "পনের", NUMBER, 15);
+        addWord(words, tokens, "ষোলো", NUMBER, 16);
+        addWord(words, tokens, "সতের", NUMBER, 17);
+        addWord(words, tokens, "আঠার", NUMBER, 18);
+        addWord(words, tokens, "Fourty", NUMBER, 40);
+        addWord(words, tokens, "Ninty", NUMBER, 90);
+        addWord(words, tokens, "কোটী", GROUP, CRORE);
+        addWord(words, tokens, "Crores", GROUP, CRORE);
+        addWord(words, tokens, "লাখ", GROUP, LAKH);
+        addWord(words, tokens, "Lakhs", GROUP, LAKH);
+        addWord(words, tokens, "Lac", GROUP, LAKH);
+        addWord(words, tokens, "Lacs", GROUP, LAKH);
+        addWord(words, tokens, "Lacks", GROUP, LAKH);
+        addWord(words, tokens, "শো", GROUP, HUNDRED);
+        addWord(words, tokens, "শ", GROUP, HUNDRED);
+        addWord(words, tokens, "Tk", TAKA, 0);
+        addWord(words, tokens, "Takas", TAKA, 0);
+        addWord(words, tokens, "পইসা", PAISA, 0);
+        addWord(words, tokens, "Poisa", PAISA, 0);
+        addWord(words, tokens, "Paise", PAISA, 0);
+        addWord(words, tokens, "এবং", CONNECTIVE, 0);
+        addWord(words, tokens, "And", CONNECTIVE, 0);
+    }
+
+    private static void addWord(List<String> words, List<Integer> tokens, String word, int kind, int value) {
+        words.add(normalize(word));
+        tokens.add(kind << KIND_SHIFT | value);
+    }
+
+    /**
+     * The running value of the words read so far, in the order {@link TkInWord} writes them: groups
+     * within a crore go from lakh down to hundred, and everything before a crore word is a count of crores.
+     */
+    private static final class Amount {
+        private long crores;
+        private long belowCrore;
+        private int number;
+        private int lastNumber = -1;
+        private int lastMultiplier = Integer.MAX_VALUE;
+        private boolean hasNumber;
+        private long taka = -1;
+        private long paisa = -1;
+        private boolean ended;
+
+        boolean accept(int token) {
+            if (ended) {
+                return false;
+            }
+
+            int value = token & VALUE_MASK;
+            switch (token >>> KIND_SHIFT) {
+                case NUMBER:
+                    return acceptNumber(value);
+                case GROUP:
+                    return acceptGroup(value);
+                case TAKA:
+                    if (taka >= 0 || paisa >= 0 || !hasNumber) {
+                        return false;
+                    }
+                    taka = crores + belowCrore + number;
+                    reset();
+                    return true;
+                case PAISA:
+                    if (paisa >= 0 || !hasNumber || crores != 0 || belowCrore != 0) {
+                        return false;
+                    }
+                    paisa = number;
+                    reset();
+                    return true;
+                case ONLY:
+                    ended = taka >= 0 || paisa >= 0;
+                    return ended && !hasNumber;
+                case CONNECTIVE:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        private boolean acceptNumber(int value) {
+            if (lastNumber < 0) {
+                number = value;
+                lastNumber = value;
+            } else if (lastNumber >= 20 && lastNumber % 10 == 0 && value > 0 && value < 10) {
+                number += value;
+                lastNumber = 1;
+            } else {
+                return false;
+            }
+            hasNumber = true;
+            return true;
+        }
+
+        private boolean acceptGroup(int multiplier) {
+            if (multiplier == CRORE) {
+                long count = crores + belowCrore + number;
+                if (count == 0 || count > MAX_TAKA / CRORE) {
+                    return false;
+                }
+                crores = count * CRORE;
+                belowCrore = 0;
+                lastMultiplier = Integer.MAX_VALUE;
+            } else {
+                if (lastNumber < 0 || multiplier >= lastMultiplier) {
+                    return false;
+                }
+                belowCrore += (long) number * multiplier;
+                lastMultiplier = multiplier;
+            }
+            number = 0;
+            lastNumber = -1;
+            return true;
+        }
+
+        private void reset() {
+            crores = 0;
+            belowCrore = 0;
+            number = 0;
+            lastNumber = -1;
+            lastMultiplier = Integer.MAX_VALUE;
+            hasNumber = false;
+        }
+
+        long toPaisa() {
+            if (hasNumber) {
+                if (taka >= 0 || paisa >= 0) {
+                    return INVALID;
+                }
+                taka = crores + belowCrore + number;
+            }
+
+            long takaPart = Math.max(taka, 0);
+            if (takaPart > MAX_TAKA) {
+                return INVALID;
+            }
+            return takaPart * 100 + Math.max(paisa, 0);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 encoding straight into a {@link ByteBuffer}, shared by the encoders of {@link TkInWord},
+ * {@link NumberUtils} and {@link DateRenderer}. Fixed vocabularies are encoded once with
+ * {@link #encodeAll(String[])} and copied with a bulk {@link ByteBuffer#put(byte[])}; computed text such as
+ * digits and separators is encoded as it is written.
+ */
+class Utf8 {
+    private static final byte REPLACEMENT = '?';
+
+    static byte[] encode(String text) {
+        return text == null ? null : text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[][] encodeAll(String[] texts) {
+        byte[][] encoded = new byte[texts.length][];
+        for (int i = 0; i < texts.length; i++) {
+            encoded[i] = encode(texts[i]);
+        }
+        return encoded;
+    }
+
+    static void put(ByteBuffer out, CharSequence text) {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                putCodePoint(out, Character.toCodePoint(c, text.charAt(++i)));
+            } else {
+                putChar(out, c);
+            }
+        }
+    }
+
+    static void put(ByteBuffer out, char[] chars, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = chars[i];
+            if (Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(chars[i + 1])) {
+                putCodePoint(out, Character.toCodePoint(c, chars[++i]));
+            } else {
+                putChar(out, c);
+            }
+        }
+    }
+
+    /**
+     * Encodes one char; unpaired surrogates become '?' as with {@link String#getBytes}.
+     */
+    static void putChar(ByteBuffer out, char c) {
+        if (c < 0x80) {
+            out.put((byte) c);
+        } else if (c < 0x800) {
+            out.put((byte) (0xC0 | c >> 6));
+            out.put((byte) (0x80 | c & 0x3F));
+        } else if (Character.isSurrogate(c)) {
+            out.put(REPLACEMENT);
+        } else {
+            out.put((byte) (0xE0 | c >> 12));
+            out.put((byte) (0x80 | c >> 6 & 0x3F));
+            out.put((byte) (0x80 | c & 0x3F));
+        }
+    }
+
+    private static void putCodePoint(ByteBuffer out, int codePoint) {
+        out.put((byte) (0xF0 | codePoint >> 18));
+        out.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+        out.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+        out.put((byte) (0x80 | codePoint & 0x3F));
+    }
+}
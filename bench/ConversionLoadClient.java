@@ -0,0 +1,142 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives a running {@link ConversionServer} from {@code connections} concurrent callers for a fixed time
+ * and reports requests per second, latency percentiles and failures.
+ * <p>
+ * The {@code single} mode sends one {@code GET /words} per request; {@code batch} posts
+ * {@code batchSize} amounts per request to {@code /words} and also reports amounts per second.
+ * <pre>
+ * java -cp out ConversionServer 8080 &amp;
+ * java -cp out ConversionLoadClient [base-url] [connections] [seconds] [single|batch] [batchSize]
+ * </pre>
+ */
+public class ConversionLoadClient {
+    private static final String DEFAULT_BASE_URL = "http://localhost:" + ConversionServer.DEFAULT_PORT;
+    private static final int BUCKET_COUNT = Long.SIZE;
+
+    public static void main(String[] args) throws InterruptedException {
+        String baseUrl = args.length > 0 ? args[0] : DEFAULT_BASE_URL;
+        int connections = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        boolean batch = args.length > 3 && args[3].equals("batch");
+        int batchSize = args.length > 4 ? Integer.parseInt(args[4]) : 1_000;
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest request = batch ? createBatchRequest(baseUrl, batchSize) : createSingleRequest(baseUrl);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        List<Caller> callers = new ArrayList<>();
+        CountDownLatch finished = new CountDownLatch(connections);
+        for (int i = 0; i < connections; i++) {
+            Caller caller = new Caller(client, request, deadline, finished);
+            callers.add(caller);
+            Thread thread = new Thread(caller, "load-client-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        finished.await();
+
+        long requests = 0;
+        long failures = 0;
+        long[] buckets = new long[BUCKET_COUNT];
+        for (Caller caller : callers) {
+            requests += caller.requests;
+            failures += caller.failures;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets[i] += caller.buckets[i];
+            }
+        }
+
+        System.out.printf("%s %s, %d connections, %d s%n", batch ? "batch of " + batchSize : "single", request.uri(), connections, seconds);
+        System.out.printf("requests/s %12.0f%n", (double) requests / seconds);
+        if (batch) {
+            System.out.printf("amounts/s  %12.0f%n", (double) requests * batchSize / seconds);
+        }
+        System.out.printf("p50 <= %.3f ms, p99 <= %.3f ms, failures %d%n",
+                percentileNanos(buckets, 50) / 1e6, percentileNanos(buckets, 99) / 1e6, failures);
+    }
+
+    private static HttpRequest createSingleRequest(String baseUrl) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/words?value=123456789.25&lang=bn")).GET().build();
+    }
+
+    private static HttpRequest createBatchRequest(String baseUrl, int batchSize) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < batchSize; i++) {
+            body.append(i * 7919L % 1_000_000_000L).append('.').append(i % 100).append('\n');
+        }
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/words?lang=bn"))
+                .header("Content-Type", "text/plain; charset=UTF-8")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+    }
+
+    /**
+     * The upper bound of the power-of-two bucket holding the percentile.
+     */
+    private static long percentileNanos(long[] buckets, double percentile) {
+        long total = 0;
+        for (long bucket : buckets) {
+            total += bucket;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank && buckets[i] > 0) {
+                return (2L << i) - 1;
+            }
+        }
+        return 0;
+    }
+
+    private static final class Caller implements Runnable {
+        private final HttpClient client;
+        private final HttpRequest request;
+        private final long deadline;
+        private final CountDownLatch finished;
+        private final long[] buckets = new long[BUCKET_COUNT];
+        private long requests;
+        private long failures;
+
+        Caller(HttpClient client, HttpRequest request, long deadline, CountDownLatch finished) {
+            this.client = client;
+            this.request = request;
+            this.deadline = deadline;
+            this.finished = finished;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            failures++;
+                        }
+                    } catch (IOException e) {
+                        failures++;
+                    }
+                    long nanos = System.nanoTime() - start;
+                    buckets[BUCKET_COUNT - 1 - Long.numberOfLeadingZeros(Math.max(1, nanos))]++;
+                    requests++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                finished.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DecimalStyle;
+import java.util.Locale;
+
+/**
+ * Checks that {@link DateRenderer} and the {@code dd/MM/yyyy} fast path of {@link DateUtils} write exactly
+ * what {@code DateTimeFormatter.ofPattern(pattern, locale)} writes with the locale's digits.
+ * <p>
+ * Dates cover every day of the years 1-9999 that are written directly, plus the years on either side and
+ * the ends of {@link LocalDate}, which go through the formatter fallback. Times cover every minute of the
+ * day. Each value is checked through every output form: String, caller-owned buffer, StringBuilder, other
+ * Appendable and UTF-8 ByteBuffer. Prints the mismatches and exits with status 1 if there are any.
+ * <pre>
+ * javac -encoding UTF-8 -d out *.java bench/*.java
+ * java -cp out DateRendererCheck [locale-tag...]
+ * </pre>
+ */
+public class DateRendererCheck {
+    private static final String[] DEFAULT_LOCALES = {"bn", "bn-BD", "en", "en-US", "en-GB", "hi-IN", "ar", "ar-EG", "fa",
+            "th-TH", "ja", "zh-CN", "de", "fr", "und", "bn-u-nu-latn", "th-TH-u-nu-thai", "en-u-ca-buddhist", "ar-u-nu-arab"};
+    private static final String DATE_PATTERN = "dd/MM/yyyy";
+    private static final String TIME_PATTERN = "hh:mm a";
+    private static final String TIME_WITHOUT_MARKER_PATTERN = "hh:mm";
+    private static final String DATE_TIME_PATTERN = "dd/MM/yyyy hh:mm a";
+    private static final int EPOCH_DAYS_PER_BATCH = 100_000;
+    private static final int MAX_REPORTED_MISMATCHES = 20;
+
+    private static long checked;
+    private static long mismatches;
+
+    public static void main(String[] args) {
+        String[] tags = args.length > 0 ? args : DEFAULT_LOCALES;
+        for (String tag : tags) {
+            Locale locale = Locale.forLanguageTag(tag);
+            long before = mismatches;
+            long start = System.nanoTime();
+            checkDates(locale);
+            checkTimes(locale);
+            checkDateTimes(locale);
+            System.out.printf("%-18s %s in %.1f s%n", tag, mismatches == before ? "ok" : (mismatches - before) + " mismatches",
+                    (System.nanoTime() - start) / 1e9);
+        }
+
+        System.out.println(checked + " values checked, " + mismatches + " mismatches");
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void checkDates(Locale locale) {
+        DateTimeFormatter reference = reference(DATE_PATTERN, locale);
+        char[] buffer = new char[DateRenderer.MAX_DATE_TIME_LENGTH];
+        LocalDate first = LocalDate.of(0, 1, 1);
+        LocalDate last = LocalDate.of(10000, 12, 31);
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            checkDate(date, reference, locale, buffer);
+        }
+        checkDate(LocalDate.MIN, reference, locale, buffer);
+        checkDate(LocalDate.MAX, reference, locale, buffer);
+        checkDate(LocalDate.of(-1, 12, 31), reference, locale, buffer);
+        checkDate(LocalDate.of(10001, 1, 1), reference, locale, buffer);
+
+        checkFormatAll(first.toEpochDay(), last.toEpochDay(), reference, locale);
+    }
+
+    private static void checkDate(LocalDate date, DateTimeFormatter reference, Locale locale, char[] buffer) {
+        String expected = reference.format(date);
+        compare("formatDate", date, expected, DateRenderer.formatDate(date, locale));
+        compare("renderDate", date, expected, new String(buffer, 0, DateRenderer.renderDate(buffer, 0, date, locale)));
+        compare("appendDate", date, expected, DateRenderer.appendDate(new StringBuilder(), date, locale).toString());
+        compare("appendDate(CharBuffer)", date, expected, flip(DateRenderer.appendDate(CharBuffer.allocate(buffer.length), date, locale)));
+        compare("encodeDate", date, expected, decode(DateRenderer.encodeDate(ByteBuffer.allocate(buffer.length * 3), date, locale)));
+        compare("getLocalizedDate", date, expected, DateUtils.getLocalizedDate(date, locale));
+    }
+
+    /**
+     * Runs the whole range through the bulk methods in batches, which also exercises their per-day cache.
+     */
+    private static void checkFormatAll(long firstDay, long lastDay, DateTimeFormatter reference, Locale locale) {
+        for (long batchStart = firstDay; batchStart <= lastDay; batchStart += EPOCH_DAYS_PER_BATCH) {
+            int size = (int) Math.min(EPOCH_DAYS_PER_BATCH, lastDay - batchStart + 1);
+            long[] epochDays = new long[size];
+            LocalDate[] dates = new LocalDate[size];
+            for (int i = 0; i < size; i++) {
+                epochDays[i] = batchStart + i;
+                dates[i] = LocalDate.ofEpochDay(epochDays[i]);
+            }
+
+            String[] fromEpochDays = new String[size];
+            String[] fromDates = new String[size];
+            DateUtils.formatAll(epochDays, DATE_PATTERN, locale, fromEpochDays);
+            DateUtils.formatAll(dates, DATE_PATTERN, locale, fromDates);
+            StringBuilder expectedJoined = new StringBuilder(size * 11);
+            for (int i = 0; i < size; i++) {
+                String expected = reference.format(dates[i]);
+                compare("formatAll(long[])", dates[i], expected, fromEpochDays[i]);
+                compare("formatAll(LocalDate[])", dates[i], expected, fromDates[i]);
+                expectedJoined.append(expected).append('\n');
+            }
+
+            ByteBuffer encoded = DateUtils.encodeAll(ByteBuffer.allocate(expectedJoined.length() * 3), epochDays, DATE_PATTERN, locale, "\n");
+            compare("encodeAll", dates[0] + ".." + dates[size - 1], expectedJoined.toString(), decode(encoded));
+        }
+    }
+
+    private static void checkTimes(Locale locale) {
+        DateTimeFormatter reference = reference(TIME_PATTERN, locale);
+        DateTimeFormatter referenceWithoutMarker = reference(TIME_WITHOUT_MARKER_PATTERN, locale);
+        char[] buffer = new char[DateRenderer.MAX_DATE_TIME_LENGTH];
+        for (int minute = 0; minute < 24 * 60; minute++) {
+            LocalTime time = LocalTime.of(minute / 60, minute % 60);
+            // Seconds are not written, so a time late in its minute must come out the same
+            LocalTime lateTime = time.withSecond(59).withNano(999_999_999);
+
+            String expected = reference.format(time);
+            compare("formatTime", time, expected, DateRenderer.formatTime(lateTime, locale));
+            compare("renderTime", time, expected, new String(buffer, 0, DateRenderer.renderTime(buffer, 0, time, locale)));
+            compare("appendTime", time, expected, DateRenderer.appendTime(new StringBuilder(), time, locale).toString());
+            compare("appendTime(CharBuffer)", time, expected, flip(DateRenderer.appendTime(CharBuffer.allocate(buffer.length), time, locale)));
+            compare("encodeTime", time, expected, decode(DateRenderer.encodeTime(ByteBuffer.allocate(buffer.length * 3), time, locale)));
+            compare("getLocalizedTime", time, expected, DateUtils.getLocalizedTime(time, locale));
+
+            String expectedWithoutMarker = referenceWithoutMarker.format(time);
+            compare("formatTimeWithoutMarker", time, expectedWithoutMarker, DateRenderer.formatTimeWithoutMarker(lateTime, locale));
+            compare("renderTimeWithoutMarker", time, expectedWithoutMarker,
+                    new String(buffer, 0, DateRenderer.renderTimeWithoutMarker(buffer, 0, time, locale)));
+            compare("appendTimeWithoutMarker", time, expectedWithoutMarker,
+                    DateRenderer.appendTimeWithoutMarker(new StringBuilder(), time, locale).toString());
+            compare("encodeTimeWithoutMarker", time, expectedWithoutMarker,
+                    decode(DateRenderer.encodeTimeWithoutMarker(ByteBuffer.allocate(buffer.length * 3), time, locale)));
+        }
+    }
+
+    /**
+     * Every minute of the first and last days written directly, of the fallback days just outside them,
+     * and of a leap day.
+     */
+    private static void checkDateTimes(Locale locale) {
+        DateTimeFormatter reference = reference(DATE_TIME_PATTERN, locale);
+        char[] buffer = new char[DateRenderer.MAX_DATE_TIME_LENGTH];
+        LocalDate[] days = {LocalDate.of(0, 12, 31), LocalDate.of(1, 1, 1), LocalDate.of(2024, 2, 29),
+                LocalDate.of(9999, 12, 31), LocalDate.of(10000, 1, 1)};
+        for (LocalDate day : days) {
+            for (int minute = 0; minute < 24 * 60; minute++) {
+                LocalDateTime dateTime = day.atTime(minute / 60, minute % 60);
+                String expected = reference.format(dateTime);
+                compare("formatDateTime", dateTime, expected, DateRenderer.formatDateTime(dateTime, locale));
+                compare("renderDateTime", dateTime, expected,
+                        new String(buffer, 0, DateRenderer.renderDateTime(buffer, 0, dateTime, locale)));
+                compare("appendDateTime", dateTime, expected, DateRenderer.appendDateTime(new StringBuilder(), dateTime, locale).toString());
+                compare("encodeDateTime", dateTime, expected,
+                        decode(DateRenderer.encodeDateTime(ByteBuffer.allocate(buffer.length * 3), dateTime, locale)));
+                compare("getLocalizedDateTime", dateTime, expected, DateUtils.getLocalizedDateTime(dateTime, locale));
+            }
+        }
+    }
+
+    /**
+     * Built here rather than taken from {@link DateUtils#getFormatter(String, Locale)}, so the check does not
+     * share the code it is checking. {@code localizedBy} applies the calendar and numbering system of a
+     * Unicode extension, as DateUtils does.
+     */
+    private static DateTimeFormatter reference(String pattern, Locale locale) {
+        return DateTimeFormatter.ofPattern(pattern, locale)
+                .localizedBy(locale)
+                .withDecimalStyle(DecimalStyle.of(locale));
+    }
+
+    private static void compare(String method, Object input, String expected, String actual) {
+        checked++;
+        if (!expected.equals(actual)) {
+            if (++mismatches <= MAX_REPORTED_MISMATCHES) {
+                System.out.println("  " + method + "(" + input + "): expected \"" + expected + "\" but got \"" + actual + "\"");
+            }
+        }
+    }
+
+    private static String flip(CharBuffer buffer) {
+        return buffer.flip().toString();
+    }
+
+    private static String decode(ByteBuffer buffer) {
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+    }
+}
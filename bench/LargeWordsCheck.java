@@ -0,0 +1,288 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks that the block-by-block speller {@link NumberingFormat} uses for amounts beyond the long range of
+ * paisa writes exactly what the recursive BigInteger speller it replaced wrote. The recursive speller is kept
+ * here, compiled from the same {@link NumberingSystem}, as the reference.
+ * <p>
+ * Amounts are the boundaries (powers of ten from 10^17 up, both sides of {@link Long#MAX_VALUE} as taka and as
+ * paisa, powers of the top scale, runs of zeros and nines, negative scales such as 1E+30, paisa and further
+ * decimals) followed by {@code count} random ones of up to 120 digits. Each is checked in every built-in format
+ * through String, StringBuilder, other Appendable and UTF-8 output, and through {@link TkInWord} for Bangla and
+ * English. Prints the mismatches and exits with status 1 if there are any.
+ * <pre>
+ * javac -encoding UTF-8 -d out *.java bench/*.java
+ * java -cp out LargeWordsCheck [count] [seed]
+ * </pre>
+ */
+public class LargeWordsCheck {
+    private static final int MAX_RANDOM_DIGITS = 120;
+    private static final int MAX_REPORTED_MISMATCHES = 20;
+
+    private static long checked;
+    private static long mismatches;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1L;
+
+        List<BigDecimal> amounts = boundaryAmounts();
+        int boundaryCount = amounts.size();
+        Random random = new Random(seed);
+        for (int i = 0; i < count; i++) {
+            amounts.add(randomAmount(random));
+        }
+
+        NumberingFormat[] formats = {NumberingFormat.bangla(), NumberingFormat.english(), NumberingFormat.indianEnglish(),
+                NumberingFormat.internationalEnglish(), NumberingFormat.hindi()};
+        RecursiveSpeller[] references = {new RecursiveSpeller(BuiltInNumberingSystem.bangla()), new RecursiveSpeller(BuiltInNumberingSystem.english()),
+                new RecursiveSpeller(BuiltInNumberingSystem.indianEnglish()), new RecursiveSpeller(BuiltInNumberingSystem.internationalEnglish()),
+                new RecursiveSpeller(BuiltInNumberingSystem.hindi())};
+
+        long start = System.nanoTime();
+        for (BigDecimal amount : amounts) {
+            for (int i = 0; i < formats.length; i++) {
+                checkFormat(formats[i], references[i].toWords(amount), amount);
+            }
+            checkTkInWord(true, references[0].toWords(amount), amount);
+            checkTkInWord(false, references[1].toWords(amount), amount);
+        }
+
+        System.out.printf("%d boundary and %d random amounts (seed %d), %d outputs checked, %d mismatches in %.1f s%n",
+                boundaryCount, count, seed, checked, mismatches, (System.nanoTime() - start) / 1e9);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void checkFormat(NumberingFormat format, String expected, BigDecimal amount) {
+        compare("toWords", amount, expected, format.toWords(amount));
+        compare("appendWords", amount, expected, format.appendWords(new StringBuilder(), amount).toString());
+        compare("appendWords(CharBuffer)", amount, expected, flip(format.appendWords(CharBuffer.allocate(charsFor(expected)), amount)));
+        compare("encodeWords", amount, expected, decode(format.encodeWords(ByteBuffer.allocate(bytesFor(expected)), amount)));
+    }
+
+    private static void checkTkInWord(boolean isBangla, String expected, BigDecimal amount) {
+        compare("convertToTkInWordByLocale", amount, expected, TkInWord.convertToTkInWordByLocale(amount, isBangla));
+        compare("appendTkInWordByLocale", amount, expected, TkInWord.appendTkInWordByLocale(new StringBuilder(), amount, isBangla).toString());
+        compare("encodeTkInWordByLocale", amount, expected,
+                decode(TkInWord.encodeTkInWordByLocale(ByteBuffer.allocate(bytesFor(expected)), amount, isBangla)));
+    }
+
+    private static List<BigDecimal> boundaryAmounts() {
+        List<BigDecimal> amounts = new ArrayList<>();
+        BigDecimal[] tails = {BigDecimal.ZERO, new BigDecimal("0.01"), new BigDecimal("0.10"), new BigDecimal("0.99"), new BigDecimal("0.999")};
+        for (int exponent = 17; exponent <= 80; exponent++) {
+            BigDecimal power = BigDecimal.TEN.pow(exponent);
+            for (BigDecimal tail : tails) {
+                amounts.add(power.add(tail));
+                amounts.add(power.subtract(BigDecimal.ONE).add(tail));
+            }
+            amounts.add(power.add(BigDecimal.TEN.pow(exponent / 2)));
+            amounts.add(new BigDecimal(BigInteger.ONE, -exponent));
+            amounts.add(new BigDecimal(BigInteger.valueOf(12_345), -exponent));
+        }
+
+        BigDecimal longMax = BigDecimal.valueOf(Long.MAX_VALUE);
+        BigDecimal paisaMax = BigDecimal.valueOf(Long.MAX_VALUE, 2);
+        BigDecimal paisaStep = new BigDecimal("0.01");
+        for (BigDecimal edge : new BigDecimal[]{longMax, paisaMax}) {
+            BigDecimal step = edge == longMax ? BigDecimal.ONE : paisaStep;
+            for (int offset = -2; offset <= 2; offset++) {
+                BigDecimal amount = edge.add(step.multiply(BigDecimal.valueOf(offset)));
+                amounts.add(amount);
+                amounts.add(amount.add(new BigDecimal("0.5")));
+                amounts.add(amount.setScale(4));
+            }
+        }
+
+        // Whole powers of crore and quadrillion, the top scales, and the amounts either side of them
+        for (long topScale : new long[]{10_000_000L, 1_000_000_000_000_000L}) {
+            BigInteger scale = BigInteger.valueOf(topScale);
+            for (int power = 2; power <= 8; power++) {
+                BigDecimal amount = new BigDecimal(scale.pow(power));
+                amounts.add(amount);
+                amounts.add(amount.add(BigDecimal.ONE));
+                amounts.add(amount.subtract(BigDecimal.ONE));
+                amounts.add(amount.add(new BigDecimal(scale)));
+                amounts.add(amount.add(paisaStep));
+            }
+        }
+
+        for (int digits = 18; digits <= 60; digits += 7) {
+            amounts.add(new BigDecimal("9".repeat(digits) + ".99"));
+            amounts.add(new BigDecimal("1" + "0".repeat(digits - 2) + "1.01"));
+        }
+        amounts.add(new BigDecimal("1" + "0".repeat(600) + ".05"));
+        amounts.add(new BigDecimal("123456789".repeat(60) + ".50"));
+        return amounts;
+    }
+
+    /**
+     * A random non-negative amount: mostly beyond the long range, with runs of zeros that leave whole blocks
+     * empty, and zero to four decimals.
+     */
+    private static BigDecimal randomAmount(Random random) {
+        int length = 1 + random.nextInt(MAX_RANDOM_DIGITS);
+        char[] digits = new char[length];
+        int zeroRun = random.nextInt(4) == 0 ? random.nextInt(length) : 0;
+        int zeroRunStart = random.nextInt(length);
+        for (int i = 0; i < length; i++) {
+            boolean inZeroRun = i >= zeroRunStart && i < zeroRunStart + zeroRun;
+            digits[i] = inZeroRun ? '0' : (char) ('0' + random.nextInt(10));
+        }
+        int scale = random.nextInt(8) == 0 ? -random.nextInt(20) : random.nextInt(5);
+        return new BigDecimal(new BigInteger(new String(digits)), scale);
+    }
+
+    private static void compare(String method, BigDecimal amount, String expected, String actual) {
+        checked++;
+        if (!expected.equals(actual)) {
+            if (++mismatches <= MAX_REPORTED_MISMATCHES) {
+                System.out.println("  " + method + "(" + amount + "): expected \"" + expected + "\" but got \"" + actual + "\"");
+            }
+        }
+    }
+
+    private static int charsFor(String expected) {
+        return expected.length() + 16;
+    }
+
+    private static int bytesFor(String expected) {
+        return expected.length() * 3 + 16;
+    }
+
+    private static String flip(CharBuffer buffer) {
+        return buffer.flip().toString();
+    }
+
+    private static String decode(ByteBuffer buffer) {
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The speller NumberingFormat used for amounts beyond the long range before it spelled them in digit
+     * blocks: it splits off the top scale with BigInteger division and recurses until the rest fits in a long.
+     * Amounts that do fit take the same long path as NumberingFormat.
+     */
+    private static final class RecursiveSpeller {
+        private static final BigInteger PAISA_PER_TAKA = BigInteger.valueOf(100);
+
+        private final String[] numberWords;
+        private final String[] segmentWords;
+        private final String[] scaleWords;
+        private final long[] scales;
+        private final BigInteger topScale;
+        private final String currencyText;
+        private final String subUnitText;
+        private final String onlyText;
+
+        RecursiveSpeller(NumberingSystem system) {
+            numberWords = system.numberWords();
+            String[] scaleAndHundredWords = system.scaleWords();
+            NumberingSystem.Grouping grouping = system.grouping();
+            segmentWords = new String[1_000];
+            for (int segment = 0; segment < segmentWords.length; segment++) {
+                int hundreds = segment / 100;
+                int units = segment % 100;
+                segmentWords[segment] = hundreds == 0 ? numberWords[units]
+                        : numberWords[hundreds] + ' ' + scaleAndHundredWords[0] + (units == 0 ? "" : ' ' + numberWords[units]);
+            }
+            scaleWords = new String[grouping.scaleCount()];
+            scales = new long[grouping.scaleCount()];
+            for (int i = 0; i < scales.length; i++) {
+                scaleWords[i] = scaleAndHundredWords[i + 1];
+                scales[i] = grouping.scale(i);
+            }
+            topScale = BigInteger.valueOf(scales[scales.length - 1]);
+            currencyText = system.currencyText();
+            subUnitText = system.subUnitText();
+            onlyText = system.onlyText().isEmpty() ? null : system.onlyText();
+        }
+
+        /**
+         * @param amount A non-negative amount; digits beyond the second decimal place are dropped
+         */
+        String toWords(BigDecimal amount) {
+            StringBuilder out = new StringBuilder();
+            try {
+                appendLargeWords(out, amount.movePointRight(2).toBigInteger());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toString();
+        }
+
+        private void appendLargeWords(Appendable out, BigInteger paisa) throws IOException {
+            BigInteger[] takaAndPaisa = paisa.divideAndRemainder(PAISA_PER_TAKA);
+            boolean hasTaka = takaAndPaisa[0].signum() > 0;
+            boolean separate = hasTaka && appendLargeTaka(out, takaAndPaisa[0], false);
+            appendEnding(out, separate, hasTaka, takaAndPaisa[1].intValue());
+        }
+
+        private boolean appendLargeTaka(Appendable out, BigInteger taka, boolean separate) throws IOException {
+            if (taka.bitLength() < Long.SIZE) {
+                return appendTaka(out, taka.longValue(), separate);
+            }
+
+            BigInteger[] aboveAndBelow = taka.divideAndRemainder(topScale);
+            separate = appendLargeTaka(out, aboveAndBelow[0], separate);
+            separate = appendWord(out, separate, scaleWords[scaleWords.length - 1]);
+            long below = aboveAndBelow[1].longValue();
+            return below > 0 ? appendTaka(out, below, separate) : separate;
+        }
+
+        private void appendEnding(Appendable out, boolean separate, boolean hasTaka, int paisaPart) throws IOException {
+            if (hasTaka) {
+                separate = appendWord(out, separate, currencyText);
+            }
+            if (paisaPart > 0) {
+                separate = appendWord(out, separate, numberWords[paisaPart]);
+                separate = appendWord(out, separate, subUnitText);
+            }
+            if (separate && onlyText != null) {
+                appendWord(out, true, onlyText);
+            }
+        }
+
+        private boolean appendTaka(Appendable out, long taka, boolean separate) throws IOException {
+            int top = scales.length - 1;
+            if (taka >= scales[top]) {
+                separate = appendTaka(out, taka / scales[top], separate);
+                separate = appendWord(out, separate, scaleWords[top]);
+                taka %= scales[top];
+            }
+
+            for (int i = top - 1; i >= 0; i--) {
+                int group = (int) (taka / scales[i]);
+                if (group > 0) {
+                    separate = appendWord(out, separate, segmentWords[group]);
+                    separate = appendWord(out, true, scaleWords[i]);
+                    taka -= group * scales[i];
+                }
+            }
+
+            if (taka > 0) {
+                separate = appendWord(out, separate, segmentWords[(int) taka]);
+            }
+            return separate;
+        }
+
+        private static boolean appendWord(Appendable out, boolean separate, String word) throws IOException {
+            if (separate) {
+                out.append(' ');
+            }
+            out.append(word);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to the first conversion in a fresh JVM, which is what a CLI tool, a serverless
+ * function or a freshly scaled container pays before its first answer.
+ * <p>
+ * Every case starts {@code runs} new JVMs and reports the median time the first call took inside the
+ * child, together with the median wall time of the whole child process. Any further arguments are passed
+ * to the children as JVM options, to compare a run against a CDS archive:
+ * <pre>
+ * javac -encoding UTF-8 -d out *.java bench/*.java
+ * java -cp out StartupBenchmark [runs] [name-filter] [jvm-option...]
+ *
+ * java -XX:ArchiveClassesAtExit=utils.jsa -cp out StartupBenchmark child words.bangla
+ * java -cp out StartupBenchmark 20 "" -XX:SharedArchiveFile=utils.jsa
+ * </pre>
+ */
+public class StartupBenchmark {
+    private static final String CHILD = "child";
+    private static final String[] CASES = {"words.english", "words.bangla", "comma.bangla", "digits.bangla", "date.bangla"};
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length == 2 && args[0].equals(CHILD)) {
+            runChild(args[1]);
+            return;
+        }
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        String filter = args.length > 1 ? args[1] : "";
+        List<String> jvmOptions = Arrays.asList(args).subList(Math.min(args.length, 2), args.length);
+
+        System.out.printf("%-16s %14s %14s%n", "case", "first call us", "process ms");
+        for (String name : CASES) {
+            if (!name.contains(filter)) {
+                continue;
+            }
+            long[] firstCallNanos = new long[runs];
+            long[] processNanos = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                long start = System.nanoTime();
+                firstCallNanos[i] = startChild(name, jvmOptions);
+                processNanos[i] = System.nanoTime() - start;
+            }
+            System.out.printf("%-16s %14.0f %14.1f%n", name,
+                    median(firstCallNanos) / 1e3, median(processNanos) / 1e6);
+        }
+    }
+
+    private static long startChild(String name, List<String> jvmOptions) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse(System.getProperty("java.home") + "/bin/java"));
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(StartupBenchmark.class.getName());
+        command.add(CHILD);
+        command.add(name);
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String line;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            line = reader.readLine();
+        }
+        if (!process.waitFor(1, TimeUnit.MINUTES) || process.exitValue() != 0 || line == null) {
+            throw new IllegalStateException("Child " + name + " failed: " + line);
+        }
+        return Long.parseLong(line.trim());
+    }
+
+    /**
+     * Runs one conversion and prints how long it took. Only the result's length is used afterwards, so
+     * nothing but the conversion itself is timed.
+     */
+    private static void runChild(String name) {
+        long start = System.nanoTime();
+        String result;
+        switch (name) {
+            case "words.english":
+                result = TkInWord.convertToTkInWordByLocale(new BigDecimal("1234.50"), false);
+                break;
+            case "words.bangla":
+                result = TkInWord.convertToTkInWordByLocale(new BigDecimal("1234.50"), true);
+                break;
+            case "comma.bangla":
+                result = TkInWord.formatCommaSeperatedMoneyByLocale(new BigDecimal("1234.50"), true);
+                break;
+            case "digits.bangla":
+                result = NumberUtils.englishToBanglaDigitConversion("1234.50");
+                break;
+            case "date.bangla":
+                result = DateRenderer.formatDate(LocalDate.of(2024, 2, 29), new Locale("bn"));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown case " + name);
+        }
+        long nanos = System.nanoTime() - start;
+        if (result.isEmpty()) {
+            throw new IllegalStateException("Empty result for " + name);
+        }
+        System.out.println(nanos);
+    }
+
+    private static double median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+}
@@ -0,0 +1,232 @@
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Throughput and allocation benchmarks for the hot conversion paths.
+ * <p>
+ * Every case runs single-threaded and then on {@code threads} threads at once, and reports
+ * operations per second together with bytes allocated per operation (the same figure JMH's
+ * {@code -prof gc} gives as {@code gc.alloc.rate.norm}).
+ * <pre>
+ * javac -encoding UTF-8 -d out *.java bench/*.java
+ * java -cp out UtilsBenchmark [name-filter] [threads] [instrumented]
+ * </pre>
+ * Passing {@code instrumented} installs a {@link ConversionMetrics} listener first, to compare the cost of
+ * the instrumentation against a run without it.
+ */
+public class UtilsBenchmark {
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final long ITERATION_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int OPERATIONS_PER_CHECK = 256;
+
+    private static final BigDecimal SMALL_AMOUNT = new BigDecimal("1234.50");
+    private static final BigDecimal CRORE_AMOUNT = new BigDecimal("123456789.25");
+    private static final BigDecimal FRACTIONAL_AMOUNT = new BigDecimal("0.75");
+    private static final long CRORE_PAISA = 12345678925L;
+    private static final Money CRORE_MONEY = Money.ofPaisa(CRORE_PAISA);
+    private static final String BANGLA_CRORE_WORDS = TkInWord.convertToTkInWordByLocale(CRORE_AMOUNT, true);
+    private static final String ENGLISH_CRORE_WORDS = TkInWord.convertToTkInWordByLocale(CRORE_AMOUNT, false);
+    private static final String BANGLA_COMMA_MONEY = TkInWord.formatCommaSeperatedMoneyByLocale(CRORE_AMOUNT, true);
+    private static final String WESTERN_COMMA_MONEY = TkInWord.formatCommaSeperatedMoneyByLocale(CRORE_AMOUNT, false);
+    private static final String DIGITS_TEXT = "Your balance is 313123.21 as of 18/10/2026";
+    private static final char[] REPORT_PAGE = DIGITS_TEXT.repeat(200).toCharArray();
+    private static final List<BigDecimal> REPORT_AMOUNTS = LongStream.range(0, 100)
+            .mapToObj(i -> BigDecimal.valueOf(CRORE_PAISA / (i + 1), 2)).collect(Collectors.toList());
+    private static final String RECEIPT_TEXT = "Amount: {amount:comma:bn} ({amount:words:bn}) on {date:bn}";
+    private static final ReceiptTemplate RECEIPT = ReceiptTemplate.compile(RECEIPT_TEXT, "amount", "date");
+    private static final ThreadLocal<ByteBuffer> UTF8_BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(4096));
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 18);
+    private static final LocalTime TIME = LocalTime.of(15, 42);
+    private static final LocalDateTime DATE_TIME = LocalDateTime.of(DATE, TIME);
+    private static final Locale BANGLA = new Locale.Builder().setLanguage("bn").build();
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static volatile int sink;
+
+    public static void main(String[] args) throws InterruptedException {
+        String filter = args.length > 0 ? args[0] : "";
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        if (args.length > 2 && args[2].equals("instrumented")) {
+            Instrumentation.setListener(new ConversionMetrics());
+        }
+
+        System.out.printf("%-48s %8s %16s %12s%n", "Benchmark", "Threads", "ops/s", "B/op");
+        for (Case benchmark : createCases()) {
+            if (!benchmark.name.contains(filter)) {
+                continue;
+            }
+            run(benchmark, 1);
+            if (threads > 1) {
+                run(benchmark, threads);
+            }
+        }
+    }
+
+    private static List<Case> createCases() {
+        List<Case> cases = new ArrayList<>();
+        cases.add(new Case("TkInWord.words.bangla.small", () -> TkInWord.convertToTkInWordByLocale(SMALL_AMOUNT, true)));
+        cases.add(new Case("TkInWord.words.bangla.crore", () -> TkInWord.convertToTkInWordByLocale(CRORE_AMOUNT, true)));
+        cases.add(new Case("TkInWord.words.bangla.fractional", () -> TkInWord.convertToTkInWordByLocale(FRACTIONAL_AMOUNT, true)));
+        cases.add(new Case("TkInWord.words.english.small", () -> TkInWord.convertToTkInWordByLocale(SMALL_AMOUNT, false)));
+        cases.add(new Case("TkInWord.words.english.crore", () -> TkInWord.convertToTkInWordByLocale(CRORE_AMOUNT, false)));
+        cases.add(new Case("TkInWord.words.english.fractional", () -> TkInWord.convertToTkInWordByLocale(FRACTIONAL_AMOUNT, false)));
+        cases.add(new Case("TkInWord.words.paisa.bangla.crore", () -> TkInWord.convertToTkInWordByLocale(CRORE_PAISA, true)));
+        cases.add(new Case("TkInWord.words.paisa.english.crore", () -> TkInWord.convertToTkInWordByLocale(CRORE_PAISA, false)));
+        cases.add(new Case("TkInWord.words.bangla.crore.money", () -> TkInWord.convertToTkInWordByLocale(CRORE_MONEY, true)));
+        cases.add(new Case("TkConverter.words.paisa.bangla.crore", () -> TkConverter.forCurrentThread(true).toWords(CRORE_PAISA)));
+        cases.add(new Case("TkInWord.words.bangla.crore.utf8", () -> TkInWord.encodeTkInWordByLocale(utf8Buffer(), CRORE_AMOUNT, true).flip()));
+        cases.add(new Case("TkInWord.words.bangla.crore.stringThenUtf8", () -> TkInWord.convertToTkInWordByLocale(CRORE_AMOUNT, true).getBytes(StandardCharsets.UTF_8)));
+        cases.add(new Case("NumberingFormat.words.hindi.crore", () -> NumberingFormat.hindi().toWords(CRORE_AMOUNT)));
+        cases.add(new Case("NumberingFormat.words.international.crore", () -> NumberingFormat.internationalEnglish().toWords(CRORE_AMOUNT)));
+        cases.add(new Case("TkInWordParser.bangla.crore", () -> TkInWordParser.parseToPaisa(BANGLA_CRORE_WORDS)));
+        cases.add(new Case("TkInWordParser.english.crore", () -> TkInWordParser.parseToPaisa(ENGLISH_CRORE_WORDS)));
+        cases.add(new Case("TkInWord.commaBanglaTk", () -> TkInWord.formatToCommaSeparatedBanglaTk(CRORE_AMOUNT)));
+        cases.add(new Case("TkInWord.commaMoney.bangla", () -> TkInWord.formatCommaSeperatedMoneyByLocale(CRORE_AMOUNT, true)));
+        cases.add(new Case("TkInWord.commaMoney.bangla.money", () -> TkInWord.formatCommaSeperatedMoneyByLocale(CRORE_MONEY, true)));
+        cases.add(new Case("TkInWord.commaMoney.bangla.moneyOfBigDecimal", () -> TkInWord.formatCommaSeperatedMoneyByLocale(Money.of(CRORE_AMOUNT, RoundingMode.HALF_UP), true)));
+        cases.add(new Case("TkConverter.commaMoney.bangla", () -> TkConverter.forCurrentThread(true).formatMoney(CRORE_AMOUNT)));
+        cases.add(new Case("Stream.words.bangla.report", () -> REPORT_AMOUNTS.stream()
+                .map(amount -> TkInWord.convertToTkInWordByLocale(amount, true)).collect(Collectors.joining("\n"))));
+        cases.add(new Case("ConversionStreams.words.bangla.report", () -> REPORT_AMOUNTS.stream()
+                .collect(ConversionStreams.joiningWords(true, "\n"))));
+        cases.add(new Case("Receipt.replaceChain", () -> RECEIPT_TEXT
+                .replace("{amount:comma:bn}", TkInWord.formatToCommaSeparatedBanglaTk(CRORE_AMOUNT))
+                .replace("{amount:words:bn}", TkInWord.convertToTkInWordByLocale(CRORE_AMOUNT, true))
+                .replace("{date:bn}", DateUtils.getBanglaDate(DATE))));
+        cases.add(new Case("ReceiptTemplate.render", () -> RECEIPT.render(CRORE_AMOUNT, DATE)));
+        cases.add(new Case("ReceiptTemplate.utf8", () -> RECEIPT.encode(utf8Buffer(), CRORE_AMOUNT, DATE).flip()));
+        cases.add(new Case("TkInWord.commaMoney.bangla.utf8", () -> TkInWord.encodeCommaSeperatedMoneyByLocale(utf8Buffer(), CRORE_AMOUNT, true).flip()));
+        cases.add(new Case("TkInWord.commaMoney.western", () -> TkInWord.formatCommaSeperatedMoneyByLocale(CRORE_AMOUNT, false)));
+        cases.add(new Case("TkInWord.commaNumber.bangla", () -> TkInWord.formatCommaSeparatedNumberByLocale(CRORE_AMOUNT, 3, true)));
+        cases.add(new Case("TkInWord.commaNumber.western", () -> TkInWord.formatCommaSeparatedNumberByLocale(CRORE_AMOUNT, 3, false)));
+        cases.add(new Case("CommaSeparatedParser.bangla", () -> CommaSeparatedParser.parsePaisa(BANGLA_COMMA_MONEY)));
+        cases.add(new Case("CommaSeparatedParser.western", () -> CommaSeparatedParser.parsePaisa(WESTERN_COMMA_MONEY)));
+        cases.add(new Case("EnglishNumberToCommaSeparatedBanglaTk.money", () -> EnglishNumberToCommaSeparatedBanglaTk.englishToBanglaMoneyFormatter(CRORE_AMOUNT)));
+        cases.add(new Case("NumberUtils.banglaDigits", () -> NumberUtils.englishToBanglaDigitConversion(DIGITS_TEXT)));
+        cases.add(new Case("NumberUtils.banglaDigits.bulkInPlace", () -> {
+            NumberUtils.englishToBanglaDigits(REPORT_PAGE, 0, REPORT_PAGE.length);
+            NumberUtils.banglaToEnglishDigits(REPORT_PAGE, 0, REPORT_PAGE.length);
+            return REPORT_PAGE;
+        }));
+        cases.add(new Case("DateUtils.localizedDateTime", () -> DateUtils.getLocalizedDateTime(DATE_TIME, BANGLA)));
+        cases.add(new Case("DateUtils.localizedDate", () -> DateUtils.getLocalizedDate(DATE, BANGLA)));
+        cases.add(new Case("DateUtils.localizedTime", () -> DateUtils.getLocalizedTime(TIME, BANGLA)));
+        cases.add(new Case("DateUtils.localizedDateFromTimeStamp", () -> DateUtils.getLocalizedDateFromTimeStamp(DATE_TIME, BANGLA)));
+        cases.add(new Case("DateUtils.localizedDayOfMonth", () -> DateUtils.getLocalizedDayOfMonth(DATE, BANGLA)));
+        cases.add(new Case("DateUtils.localizedMonthValue", () -> DateUtils.getLocalizedMonthValue(DATE, BANGLA)));
+        cases.add(new Case("DateUtils.localizedYear", () -> DateUtils.getLocalizedYear(DATE, BANGLA)));
+        cases.add(new Case("DateUtils.banglaDate", () -> DateUtils.getBanglaDate(DATE)));
+        cases.add(new Case("DateRenderer.banglaDate.utf8", () -> DateRenderer.encodeDate(utf8Buffer(), DATE, BANGLA).flip()));
+        cases.add(new Case("DateUtils.banglaDayOfMonth", () -> DateUtils.getBanglaDayOfMonth(DATE)));
+        cases.add(new Case("DateUtils.banglaMonthValue", () -> DateUtils.getBanglaMonthValue(DATE)));
+        cases.add(new Case("DateUtils.banglaYear", () -> DateUtils.getBanglaYear(DATE)));
+        cases.add(new Case("DateUtils.banglaTime", () -> DateUtils.getBanglaTime(TIME)));
+        cases.add(new Case("DateUtils.banglaCalendarDate", () -> DateUtils.getBanglaCalendarDate(DATE)));
+        cases.add(new Case("BanglaCalendar.toBanglaDate", () -> BanglaCalendar.toBanglaDate(DATE)));
+        return cases;
+    }
+
+    /**
+     * A per-thread buffer for the UTF-8 cases. They flip it before returning, so the harness's
+     * hashCode() covers only the encoded bytes.
+     */
+    private static ByteBuffer utf8Buffer() {
+        return UTF8_BUFFER.get().clear();
+    }
+
+    private static void run(Case benchmark, int threads) throws InterruptedException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            measure(benchmark, threads);
+        }
+
+        Result total = new Result();
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            Result iteration = measure(benchmark, threads);
+            total.operations.add(iteration.operations.sum());
+            total.allocatedBytes.add(iteration.allocatedBytes.sum());
+            total.nanos += iteration.nanos;
+        }
+
+        long operations = total.operations.sum();
+        double opsPerSecond = operations * (double) TimeUnit.SECONDS.toNanos(1) / total.nanos;
+        double bytesPerOperation = operations == 0 ? 0 : total.allocatedBytes.sum() / (double) operations;
+        System.out.printf("%-48s %8d %16.0f %12.1f%n", benchmark.name, threads, opsPerSecond, bytesPerOperation);
+    }
+
+    /**
+     * Runs the case on {@code threads} threads for one iteration. Throughput is summed across
+     * threads over the shared wall-clock window.
+     */
+    private static Result measure(Case benchmark, int threads) throws InterruptedException {
+        Result result = new Result();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                long deadline = System.nanoTime() + ITERATION_NANOS;
+                long allocatedBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+                long operations = 0;
+                int accumulator = 0;
+                while (System.nanoTime() < deadline) {
+                    for (int i = 0; i < OPERATIONS_PER_CHECK; i++) {
+                        accumulator += benchmark.operation.get().hashCode();
+                    }
+                    operations += OPERATIONS_PER_CHECK;
+                }
+                result.allocatedBytes.add(THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore);
+                result.operations.add(operations);
+                sink = accumulator;
+                done.countDown();
+            });
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        done.await();
+        result.nanos = System.nanoTime() - startNanos;
+        return result;
+    }
+
+    private static final class Case {
+        private final String name;
+        private final Supplier<Object> operation;
+
+        Case(String name, Supplier<Object> operation) {
+            this.name = name;
+            this.operation = operation;
+        }
+    }
+
+    private static final class Result {
+        private final LongAdder operations = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private long nanos;
+    }
+}
@@ -0,0 +1,159 @@
+package jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH counterparts of the main cases of {@code UtilsBenchmark}, for results with forked JVMs, dead code
+ * elimination guarded and JMH's profilers; {@code -prof gc} gives the allocation per operation.
+ * <pre>
+ * mvn -P jmh package
+ * java -jar target/benchmarks.jar [name-regex] [-t threads] [-prof gc]
+ * </pre>
+ * The inputs are fields of the state rather than constants, so the JIT cannot fold a conversion away.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConversionBenchmark {
+    private Conversions conversions;
+    private BigDecimal smallAmount;
+    private BigDecimal croreAmount;
+    private long crorePaisa;
+    private String banglaCroreMoney;
+    private String banglaCroreWords;
+    private String digitsText;
+    private LocalDate date;
+    private LocalDateTime dateTime;
+    private Locale bangla;
+    private ByteBuffer utf8;
+
+    @Setup
+    public void setUp() {
+        conversions = Conversions.load();
+        smallAmount = new BigDecimal("1234.50");
+        croreAmount = new BigDecimal("123456789.25");
+        crorePaisa = 12345678925L;
+        banglaCroreMoney = conversions.commaMoney(croreAmount, true);
+        banglaCroreWords = conversions.words(croreAmount, true);
+        digitsText = "Your balance is 313123.21 as of 18/10/2026";
+        date = LocalDate.of(2026, 10, 18);
+        dateTime = LocalDateTime.of(date, LocalTime.of(15, 42));
+        bangla = new Locale.Builder().setLanguage("bn").build();
+        utf8 = ByteBuffer.allocateDirect(4096);
+    }
+
+    @Benchmark
+    public String wordsBanglaSmall() {
+        return conversions.words(smallAmount, true);
+    }
+
+    @Benchmark
+    public String wordsBanglaCrore() {
+        return conversions.words(croreAmount, true);
+    }
+
+    @Benchmark
+    public String wordsEnglishCrore() {
+        return conversions.words(croreAmount, false);
+    }
+
+    @Benchmark
+    public String wordsPaisaBanglaCrore() {
+        return conversions.words(crorePaisa, true);
+    }
+
+    @Benchmark
+    public String converterWordsPaisaBanglaCrore() {
+        return conversions.wordsWithConverter(crorePaisa, true);
+    }
+
+    @Benchmark
+    public String wordsInternationalCrore() {
+        return conversions.wordsInternational(croreAmount);
+    }
+
+    @Benchmark
+    public ByteBuffer wordsBanglaCroreUtf8() {
+        return conversions.encodeWords(utf8.clear(), croreAmount, true);
+    }
+
+    @Benchmark
+    public long parseWordsBanglaCrore() {
+        return conversions.parseWords(banglaCroreWords);
+    }
+
+    @Benchmark
+    public String commaMoneyBangla() {
+        return conversions.commaMoney(croreAmount, true);
+    }
+
+    @Benchmark
+    public String commaMoneyWestern() {
+        return conversions.commaMoney(croreAmount, false);
+    }
+
+    @Benchmark
+    public String converterCommaMoneyBangla() {
+        return conversions.commaMoneyWithConverter(croreAmount, true);
+    }
+
+    @Benchmark
+    public ByteBuffer commaMoneyBanglaUtf8() {
+        return conversions.encodeCommaMoney(utf8.clear(), croreAmount, true);
+    }
+
+    @Benchmark
+    public long parseCommaMoneyBangla() {
+        return conversions.parseCommaMoney(banglaCroreMoney);
+    }
+
+    @Benchmark
+    public String banglaDigits() {
+        return conversions.banglaDigits(digitsText);
+    }
+
+    @Benchmark
+    public String localizedDate() {
+        return conversions.localizedDate(date, bangla);
+    }
+
+    @Benchmark
+    public String localizedDateTime() {
+        return conversions.localizedDateTime(dateTime, bangla);
+    }
+
+    @Benchmark
+    public ByteBuffer banglaDateUtf8() {
+        return conversions.encodeDate(utf8.clear(), date, bangla);
+    }
+
+    @Benchmark
+    public String banglaCalendarDate() {
+        return conversions.banglaCalendarDate(date);
+    }
+
+    @Benchmark
+    public String receiptTemplateRender() {
+        return conversions.renderReceipt(croreAmount, date);
+    }
+}
@@ -0,0 +1,55 @@
+package jmh;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * The conversions the JMH benchmarks measure. JMH only accepts benchmarks in a named package, and a named
+ * package cannot refer to the library's classes in the unnamed one, so the benchmarks call them through this
+ * interface. {@link #load()} returns the one implementation, {@code JmhConversions}; each benchmark sees a
+ * single receiver type, so the JIT inlines the call and the measurement is of the conversion itself.
+ */
+public interface Conversions {
+    String words(BigDecimal amount, boolean isBangla);
+
+    String words(long paisa, boolean isBangla);
+
+    String wordsWithConverter(long paisa, boolean isBangla);
+
+    String wordsInternational(BigDecimal amount);
+
+    ByteBuffer encodeWords(ByteBuffer out, BigDecimal amount, boolean isBangla);
+
+    String commaMoney(BigDecimal amount, boolean isBangla);
+
+    String commaMoneyWithConverter(BigDecimal amount, boolean isBangla);
+
+    ByteBuffer encodeCommaMoney(ByteBuffer out, BigDecimal amount, boolean isBangla);
+
+    long parseCommaMoney(String text);
+
+    long parseWords(String words);
+
+    String banglaDigits(String text);
+
+    String localizedDate(LocalDate date, Locale locale);
+
+    String localizedDateTime(LocalDateTime dateTime, Locale locale);
+
+    ByteBuffer encodeDate(ByteBuffer out, LocalDate date, Locale locale);
+
+    String banglaCalendarDate(LocalDate date);
+
+    String renderReceipt(BigDecimal amount, LocalDate date);
+
+    static Conversions load() {
+        try {
+            return (Conversions) Class.forName("JmhConversions").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("JmhConversions is not on the class path", e);
+        }
+    }
+}
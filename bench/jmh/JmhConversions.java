@@ -0,0 +1,93 @@
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Implements {@link jmh.Conversions} with the library's classes. It stays in the unnamed package, next to
+ * them, although its file sits with the benchmarks it serves.
+ */
+public final class JmhConversions implements jmh.Conversions {
+    private static final ReceiptTemplate RECEIPT = ReceiptTemplate.compile("Amount: {amount:comma:bn} ({amount:words:bn}) on {date:bn}", "amount", "date");
+
+    @Override
+    public String words(BigDecimal amount, boolean isBangla) {
+        return TkInWord.convertToTkInWordByLocale(amount, isBangla);
+    }
+
+    @Override
+    public String words(long paisa, boolean isBangla) {
+        return TkInWord.convertToTkInWordByLocale(paisa, isBangla);
+    }
+
+    @Override
+    public String wordsWithConverter(long paisa, boolean isBangla) {
+        return TkConverter.forCurrentThread(isBangla).toWords(paisa);
+    }
+
+    @Override
+    public String wordsInternational(BigDecimal amount) {
+        return NumberingFormat.internationalEnglish().toWords(amount);
+    }
+
+    @Override
+    public ByteBuffer encodeWords(ByteBuffer out, BigDecimal amount, boolean isBangla) {
+        return TkInWord.encodeTkInWordByLocale(out, amount, isBangla);
+    }
+
+    @Override
+    public String commaMoney(BigDecimal amount, boolean isBangla) {
+        return TkInWord.formatCommaSeperatedMoneyByLocale(amount, isBangla);
+    }
+
+    @Override
+    public String commaMoneyWithConverter(BigDecimal amount, boolean isBangla) {
+        return TkConverter.forCurrentThread(isBangla).formatMoney(amount);
+    }
+
+    @Override
+    public ByteBuffer encodeCommaMoney(ByteBuffer out, BigDecimal amount, boolean isBangla) {
+        return TkInWord.encodeCommaSeperatedMoneyByLocale(out, amount, isBangla);
+    }
+
+    @Override
+    public long parseCommaMoney(String text) {
+        return CommaSeparatedParser.parsePaisa(text);
+    }
+
+    @Override
+    public long parseWords(String words) {
+        return TkInWordParser.parseToPaisa(words);
+    }
+
+    @Override
+    public String banglaDigits(String text) {
+        return NumberUtils.englishToBanglaDigitConversion(text);
+    }
+
+    @Override
+    public String localizedDate(LocalDate date, Locale locale) {
+        return DateUtils.getLocalizedDate(date, locale);
+    }
+
+    @Override
+    public String localizedDateTime(LocalDateTime dateTime, Locale locale) {
+        return DateUtils.getLocalizedDateTime(dateTime, locale);
+    }
+
+    @Override
+    public ByteBuffer encodeDate(ByteBuffer out, LocalDate date, Locale locale) {
+        return DateRenderer.encodeDate(out, date, locale);
+    }
+
+    @Override
+    public String banglaCalendarDate(LocalDate date) {
+        return DateUtils.getBanglaCalendarDate(date);
+    }
+
+    @Override
+    public String renderReceipt(BigDecimal amount, LocalDate date) {
+        return RECEIPT.render(amount, date);
+    }
+}